@@ -1,5 +1,6 @@
 package it.crystalnest.soul_fire_d;
 
+import it.crystalnest.soul_fire_d.api.FireGameRules;
 import it.crystalnest.soul_fire_d.api.FireManager;
 import it.crystalnest.soul_fire_d.api.enchantment.EnchantmentRegistry;
 import it.crystalnest.soul_fire_d.platform.Services;
@@ -19,5 +20,6 @@ public final class CommonModLoader {
     FireManager.registerFire(FireManager.fireBuilder(FireManager.SOUL_FIRE_TYPE).setLight(10).setDamage(2).build());
     Services.NETWORK.register();
     EnchantmentRegistry.register();
+    FireGameRules.register();
   }
 }
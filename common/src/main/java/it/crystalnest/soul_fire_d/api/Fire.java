@@ -37,8 +37,10 @@ public final class Fire {
     @Override
     public void encode(FriendlyByteBuf buffer, Fire fire) {
       buffer.writeResourceLocation(fire.getFireType());
+      buffer.writeVarInt(fire.getLight());
       buffer.writeFloat(fire.getDamage());
       buffer.writeBoolean(fire.invertHealAndHarm());
+      Emission.STREAM_CODEC.encode(buffer, fire.getEmission());
       @Nullable ResourceLocation source = fire.getComponent(Fire.Component.SOURCE_BLOCK);
       buffer.writeBoolean(source != null);
       if (source != null) {
@@ -55,8 +57,10 @@ public final class Fire {
     @Override
     public Fire decode(FriendlyByteBuf buffer) {
       Fire.Builder builder = FireManager.fireBuilder(buffer.readResourceLocation())
+        .setLight(buffer.readVarInt())
         .setDamage(buffer.readFloat())
         .setInvertHealAndHarm(buffer.readBoolean())
+        .setEmission(Emission.STREAM_CODEC.decode(buffer))
         .removeComponent(Fire.Component.CAMPFIRE_ITEM)
         .removeComponent(Fire.Component.LANTERN_BLOCK)
         .removeComponent(Fire.Component.LANTERN_ITEM)
@@ -125,6 +129,11 @@ public final class Fire {
    */
   private final Predicate<Entity> behavior;
 
+  /**
+   * Particle {@link Emission} profile of fire related blocks such as campfire and torch.
+   */
+  private final Emission emission;
+
   /**
    * {@link ImmutableMap} of {@link Component}s associated with their IDs for this fire.
    */
@@ -139,6 +148,7 @@ public final class Fire {
    * @param inFireGetter {@link #inFireGetter}.
    * @param onFireGetter {@link #onFireGetter}.
    * @param behavior {@link #behavior}.
+   * @param emission {@link #emission}.
    * @param components {@link #components}.
    */
   Fire(
@@ -151,6 +161,7 @@ public final class Fire {
     Function<Entity, DamageSource> inFireGetter,
     Function<Entity, DamageSource> onFireGetter,
     Predicate<Entity> behavior,
+    Emission emission,
     Map<Component<?, ?>, ResourceLocation> components
   ) {
     this.fireType = fireType;
@@ -162,6 +173,7 @@ public final class Fire {
     this.inFireGetter = inFireGetter;
     this.onFireGetter = onFireGetter;
     this.behavior = behavior;
+    this.emission = emission;
     this.components = ImmutableMap.copyOf(components);
   }
 
@@ -220,6 +232,15 @@ public final class Fire {
     return onCampfireGetter.apply(entity);
   }
 
+  /**
+   * Returns whether this {@link Fire} uses the {@link Builder#DEFAULT_ON_CAMPFIRE_GETTER default} Campfire {@link DamageSource} getter.
+   *
+   * @return whether this {@link Fire} uses the default Campfire {@link DamageSource} getter.
+   */
+  public boolean hasDefaultOnCampfire() {
+    return onCampfireGetter == Builder.DEFAULT_ON_CAMPFIRE_GETTER;
+  }
+
   /**
    * Returns the In Fire {@link DamageSource} from the given {@link Entity}.
    *
@@ -249,6 +270,15 @@ public final class Fire {
     return behavior;
   }
 
+  /**
+   * Returns this {@link #emission}.
+   *
+   * @return this {@link #emission}.
+   */
+  public Emission getEmission() {
+    return emission;
+  }
+
   /**
    * Returns {@link ResourceLocation} associated with specified {@link Component}.<br />
    * Might be {@code null} if this fire doesn't have the specified component.
@@ -263,7 +293,7 @@ public final class Fire {
 
   @Override
   public String toString() {
-    return "Fire{" + "fireType=" + fireType + ", light=" + light + ", damage=" + damage + ", invertHealAndHarm=" + invertHealAndHarm + ", canRainDouse=" + canRainDouse + ", components=" + components + "}";
+    return "Fire{" + "fireType=" + fireType + ", light=" + light + ", damage=" + damage + ", invertHealAndHarm=" + invertHealAndHarm + ", canRainDouse=" + canRainDouse + ", emission=" + emission + ", components=" + components + "}";
   }
 
   /**
@@ -406,6 +436,54 @@ public final class Fire {
     }
   }
 
+  /**
+   * Particle emission profile of fire related blocks such as campfire and torch, client side only.
+   *
+   * @param rate chance, between {@code 0} and {@code 1}, that an emitter spawns its particles when it would normally do so.
+   * @param burst amount of flame particles spawned by torches and base amount of smoke puffs spawned by campfires at each emission.
+   * @param smoke whether plain smoke particles are spawned, on top of the flames of torches and the smoke column of campfires.
+   * @param maxEmittersPerChunk maximum amount of emitters that can spawn particles in the same chunk during a single client tick, {@code 0} for no limit.
+   */
+  public record Emission(float rate, int burst, boolean smoke, int maxEmittersPerChunk) {
+    /**
+     * Default {@link Emission}, same as Vanilla.
+     */
+    public static final Emission DEFAULT = new Emission(1, 1, true, 0);
+
+    /**
+     * {@link Emission} {@link StreamCodec}.
+     */
+    public static final StreamCodec<FriendlyByteBuf, Emission> STREAM_CODEC = new StreamCodec<>() {
+      @Override
+      public void encode(FriendlyByteBuf buffer, Emission emission) {
+        buffer.writeFloat(emission.rate());
+        buffer.writeVarInt(emission.burst());
+        buffer.writeBoolean(emission.smoke());
+        buffer.writeVarInt(emission.maxEmittersPerChunk());
+      }
+
+      @NotNull
+      @Override
+      public Emission decode(FriendlyByteBuf buffer) {
+        return new Emission(buffer.readFloat(), buffer.readVarInt(), buffer.readBoolean(), buffer.readVarInt());
+      }
+    };
+
+    /**
+     * Clamps the values within their accepted ranges.
+     *
+     * @param rate {@link #rate}.
+     * @param burst {@link #burst}.
+     * @param smoke {@link #smoke}.
+     * @param maxEmittersPerChunk {@link #maxEmittersPerChunk}.
+     */
+    public Emission {
+      rate = Math.clamp(rate, 0, 1);
+      burst = Math.max(burst, 0);
+      maxEmittersPerChunk = Math.max(maxEmittersPerChunk, 0);
+    }
+  }
+
   /**
    * Builder for {@link Fire} instances.
    */
@@ -450,6 +528,11 @@ public final class Fire {
      */
     public static final Predicate<Entity> DEFAULT_BEHAVIOR = entity -> true;
 
+    /**
+     * Default value for {@link #emission}.
+     */
+    public static final Emission DEFAULT_EMISSION = Emission.DEFAULT;
+
     /**
      * {@link Fire} instance modId.<br />
      * Required.
@@ -513,6 +596,12 @@ public final class Fire {
      */
     private Predicate<Entity> behavior;
 
+    /**
+     * {@link Fire} instance {@link Fire#emission emission}.<br />
+     * Optional, defaults to {@link #DEFAULT_EMISSION}.
+     */
+    private Emission emission;
+
     /**
      * {@link Fire} instance {@link Fire#components components}.<br />
      * Optional, defaults to a map with every component, each associated to the default {@link ResourceLocation} made by {@link #modId} and {@link #fireId} with the component default {@link Component#suffix suffix}.
@@ -656,6 +745,17 @@ public final class Fire {
       return this;
     }
 
+    /**
+     * Sets the particle {@link #emission} profile.
+     *
+     * @param emission {@link #emission}.
+     * @return this Builder to either set other properties or {@link #build()}.
+     */
+    public Builder setEmission(@NotNull Emission emission) {
+      this.emission = emission;
+      return this;
+    }
+
     /**
      * Sets the specified {@link Component}.<br />
      * It's strongly recommended that you use all the default values for each component. Use this only when you don't have control over the values.
@@ -722,6 +822,7 @@ public final class Fire {
       inFireGetter = DEFAULT_IN_FIRE_GETTER;
       onFireGetter = DEFAULT_ON_FIRE_GETTER;
       behavior = DEFAULT_BEHAVIOR;
+      emission = DEFAULT_EMISSION;
       components = new HashMap<>(Map.ofEntries(
         Component.SOURCE_BLOCK.getEntry(modId, fireId),
         Component.CAMPFIRE_BLOCK.getEntry(modId, fireId),
@@ -744,7 +845,7 @@ public final class Fire {
      */
     public Fire build() throws IllegalStateException {
       if (FireManager.isValidFireId(fireId) && FireManager.isValidModId(modId)) {
-        return new Fire(FireManager.sanitize(modId, fireId), light, damage, invertHealAndHarm, canRainDouse, onCampfireGetter, inFireGetter, onFireGetter, behavior, components);
+        return new Fire(FireManager.sanitize(modId, fireId), light, damage, invertHealAndHarm, canRainDouse, onCampfireGetter, inFireGetter, onFireGetter, behavior, emission, components);
       }
       throw new IllegalStateException("Attempted to build a Fire with a non-valid fireId [" + fireId + "] or modId [" + modId + "].");
     }
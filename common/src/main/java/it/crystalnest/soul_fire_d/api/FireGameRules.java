@@ -0,0 +1,26 @@
+package it.crystalnest.soul_fire_d.api;
+
+import it.crystalnest.soul_fire_d.Constants;
+import net.minecraft.world.level.GameRules;
+
+/**
+ * Game rules tuning how fires are simulated.
+ */
+public final class FireGameRules {
+  /**
+   * Whether custom fires should draw their random rolls and tick delays from a generator seeded by the world seed, position and game time, so that they burn the same way on every run.
+   */
+  public static final GameRules.Key<GameRules.BooleanValue> DETERMINISTIC_FIRE_TICKS = GameRules.register(Constants.MOD_ID + ".deterministicFireTicks", GameRules.Category.UPDATES, GameRules.BooleanValue.create(false));
+
+  /**
+   * Whether all the custom campfires of a level should be ticked together by a shared scheduler instead of one ticker each.
+   */
+  public static final GameRules.Key<GameRules.BooleanValue> SHARED_CAMPFIRE_TICKS = GameRules.register(Constants.MOD_ID + ".sharedCampfireTicks", GameRules.Category.UPDATES, GameRules.BooleanValue.create(false));
+
+  private FireGameRules() {}
+
+  /**
+   * Called outside to load the class and register.
+   */
+  public static void register() {}
+}
@@ -0,0 +1,270 @@
+package it.crystalnest.soul_fire_d.api;
+
+import it.crystalnest.soul_fire_d.api.type.FireTyped;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.BaseFireBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Static index of the fire source blocks placed in loaded chunks.<br />
+ * Each chunk section holding fire is tracked with a bitset of the positions it occupies, so queries never need to scan block states.<br />
+ * Only server levels are indexed.
+ */
+public final class FireIndex {
+  /**
+   * Amount of block positions in a chunk section.
+   */
+  private static final int SECTION_SIZE = 4096;
+
+  /**
+   * Index of each level, mapping packed {@link SectionPos section positions} to the bitset of positions occupied by fire source blocks.
+   */
+  private static final Map<Level, Long2ObjectMap<BitSet>> INDEXES = new WeakHashMap<>();
+
+  private FireIndex() {}
+
+  /**
+   * Returns whether the given {@link BlockState} is a fire source block that should be indexed.
+   *
+   * @param state block state.
+   * @return whether the given {@link BlockState} should be indexed.
+   */
+  public static boolean isIndexed(BlockState state) {
+    return state.getBlock() instanceof BaseFireBlock;
+  }
+
+  /**
+   * Returns the fire type of the given fire source {@link BlockState}.<br />
+   * Fire source blocks that were never assigned a fire type burn with {@link FireManager#DEFAULT_FIRE_TYPE}.
+   *
+   * @param state fire source block state.
+   * @return the fire type of the given fire source {@link BlockState}.
+   */
+  public static ResourceLocation getFireType(BlockState state) {
+    return Objects.requireNonNullElse(((FireTyped) state.getBlock()).getFireType(), FireManager.DEFAULT_FIRE_TYPE);
+  }
+
+  /**
+   * Counts the fire source blocks within the given radius from the given center.
+   *
+   * @param level level.
+   * @param center center of the area.
+   * @param radius radius of the area.
+   * @param fireType fire type to count, {@code null} to count all fire types.
+   * @return amount of fire source blocks found.
+   */
+  public static int count(Level level, BlockPos center, int radius, @Nullable ResourceLocation fireType) {
+    int[] count = {0};
+    forEach(level, center, radius, fireType, pos -> count[0]++);
+    return count[0];
+  }
+
+  /**
+   * Lists the positions of the fire source blocks within the given radius from the given center.
+   *
+   * @param level level.
+   * @param center center of the area.
+   * @param radius radius of the area.
+   * @param fireType fire type to list, {@code null} to list all fire types.
+   * @return positions of the fire source blocks found.
+   */
+  public static List<BlockPos> list(Level level, BlockPos center, int radius, @Nullable ResourceLocation fireType) {
+    List<BlockPos> positions = new ArrayList<>();
+    forEach(level, center, radius, fireType, positions::add);
+    return positions;
+  }
+
+  /**
+   * Removes all the fire source blocks within the given radius from the given center.
+   *
+   * @param level level.
+   * @param center center of the area.
+   * @param radius radius of the area.
+   * @param fireType fire type to extinguish, {@code null} to extinguish all fire types.
+   * @return amount of fire source blocks removed.
+   */
+  public static int extinguish(Level level, BlockPos center, int radius, @Nullable ResourceLocation fireType) {
+    // Positions are collected first because removing a block updates the index being iterated.
+    List<BlockPos> positions = list(level, center, radius, fireType);
+    for (BlockPos pos : positions) {
+      level.removeBlock(pos, false);
+    }
+    return positions.size();
+  }
+
+  /**
+   * Updates the index after a block changed.<br />
+   * Internally use only, do not use elsewhere!
+   *
+   * @param level level.
+   * @param pos position of the block that changed.
+   * @param previous previous block state.
+   * @param state new block state.
+   */
+  @ApiStatus.Internal
+  public static void update(Level level, BlockPos pos, BlockState previous, BlockState state) {
+    boolean indexed = isIndexed(state);
+    if (indexed == isIndexed(previous)) {
+      return;
+    }
+    long section = SectionPos.asLong(pos);
+    Long2ObjectMap<BitSet> sections = getSections(level);
+    if (indexed) {
+      sections.computeIfAbsent(section, key -> new BitSet(SECTION_SIZE)).set(getIndex(pos));
+    } else {
+      BitSet bits = sections.get(section);
+      if (bits != null) {
+        bits.clear(getIndex(pos));
+        if (bits.isEmpty()) {
+          sections.remove(section);
+        }
+      }
+    }
+  }
+
+  /**
+   * Indexes all the fire source blocks of a chunk that has just been loaded.<br />
+   * Internally use only, do not use elsewhere!
+   *
+   * @param level level.
+   * @param chunk loaded chunk.
+   */
+  @ApiStatus.Internal
+  public static void load(Level level, LevelChunk chunk) {
+    Long2ObjectMap<BitSet> sections = getSections(level);
+    LevelChunkSection[] chunkSections = chunk.getSections();
+    for (int i = 0; i < chunkSections.length; i++) {
+      LevelChunkSection chunkSection = chunkSections[i];
+      // The palette check allows skipping almost every section without looking at its block states.
+      if (!chunkSection.hasOnlyAir() && chunkSection.maybeHas(FireIndex::isIndexed)) {
+        BitSet bits = new BitSet(SECTION_SIZE);
+        for (int index = 0; index < SECTION_SIZE; index++) {
+          if (isIndexed(chunkSection.getBlockState(index & 15, index >> 8, (index >> 4) & 15))) {
+            bits.set(index);
+          }
+        }
+        if (!bits.isEmpty()) {
+          sections.put(SectionPos.asLong(chunk.getPos().x, chunk.getSectionYFromSectionIndex(i), chunk.getPos().z), bits);
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops the index of a chunk that has just been unloaded.<br />
+   * Internally use only, do not use elsewhere!
+   *
+   * @param level level.
+   * @param chunk unloaded chunk.
+   */
+  @ApiStatus.Internal
+  public static void unload(Level level, LevelChunk chunk) {
+    Long2ObjectMap<BitSet> sections = INDEXES.get(level);
+    if (sections != null) {
+      for (int y = level.getMinSection(); y < level.getMaxSection(); y++) {
+        sections.remove(SectionPos.asLong(chunk.getPos().x, y, chunk.getPos().z));
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the given level, creating it if needed.
+   *
+   * @param level level.
+   * @return the index of the given level.
+   */
+  private static Long2ObjectMap<BitSet> getSections(Level level) {
+    return INDEXES.computeIfAbsent(level, key -> new Long2ObjectOpenHashMap<>());
+  }
+
+  /**
+   * Returns the index of the given position inside its chunk section bitset.
+   *
+   * @param pos position.
+   * @return the index of the given position.
+   */
+  private static int getIndex(BlockPos pos) {
+    return (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+  }
+
+  /**
+   * Runs the given action on each fire source block within the given radius from the given center.<br />
+   * Positions whose block is no longer a fire source block are dropped from the index.
+   *
+   * @param level level.
+   * @param center center of the area.
+   * @param radius radius of the area.
+   * @param fireType fire type to match, {@code null} to match all fire types.
+   * @param action action to run on each position.
+   */
+  private static void forEach(Level level, BlockPos center, int radius, @Nullable ResourceLocation fireType, Consumer<BlockPos> action) {
+    Long2ObjectMap<BitSet> sections = INDEXES.get(level);
+    if (sections == null || sections.isEmpty()) {
+      return;
+    }
+    long radiusSqr = (long) radius * radius;
+    int minX = SectionPos.blockToSectionCoord(center.getX() - radius);
+    int maxX = SectionPos.blockToSectionCoord(center.getX() + radius);
+    int minY = Math.max(SectionPos.blockToSectionCoord(center.getY() - radius), level.getMinSection());
+    int maxY = Math.min(SectionPos.blockToSectionCoord(center.getY() + radius), level.getMaxSection() - 1);
+    int minZ = SectionPos.blockToSectionCoord(center.getZ() - radius);
+    int maxZ = SectionPos.blockToSectionCoord(center.getZ() + radius);
+    List<Long> candidates = new ArrayList<>();
+    if ((long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1) > sections.size()) {
+      for (long section : sections.keySet()) {
+        int x = SectionPos.x(section);
+        int y = SectionPos.y(section);
+        int z = SectionPos.z(section);
+        if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+          candidates.add(section);
+        }
+      }
+    } else {
+      for (int x = minX; x <= maxX; x++) {
+        for (int y = minY; y <= maxY; y++) {
+          for (int z = minZ; z <= maxZ; z++) {
+            long section = SectionPos.asLong(x, y, z);
+            if (sections.containsKey(section)) {
+              candidates.add(section);
+            }
+          }
+        }
+      }
+    }
+    BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    for (long section : candidates) {
+      BitSet bits = sections.get(section);
+      for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+        pos.set(SectionPos.sectionToBlockCoord(SectionPos.x(section), index & 15), SectionPos.sectionToBlockCoord(SectionPos.y(section), index >> 8), SectionPos.sectionToBlockCoord(SectionPos.z(section), (index >> 4) & 15));
+        if (pos.distSqr(center) <= radiusSqr) {
+          BlockState state = level.getBlockState(pos);
+          if (!isIndexed(state)) {
+            bits.clear(index);
+          } else if (fireType == null || fireType.equals(getFireType(state))) {
+            action.accept(pos.immutable());
+          }
+        }
+      }
+      if (bits.isEmpty()) {
+        sections.remove(section);
+      }
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package it.crystalnest.soul_fire_d.api;
+
+import it.crystalnest.soul_fire_d.api.block.CustomCampfireBlock;
+import it.crystalnest.soul_fire_d.api.block.CustomFireBlock;
+import it.crystalnest.soul_fire_d.api.block.CustomLanternBlock;
+import it.crystalnest.soul_fire_d.api.block.CustomTorchBlock;
+import it.crystalnest.soul_fire_d.api.block.CustomWallTorchBlock;
+import it.crystalnest.soul_fire_d.api.type.FireTyped;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.CampfireBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the light emitted by custom torches, lanterns, campfires and fire source blocks in sync with the registered {@link Fire Fires}.<br />
+ * Vanilla caches the light emission of each {@link BlockState} when it's created, so whenever the {@link FireManager#getGeneration() fire generation} changes all the custom block states are recomputed in one pass and the loaded chunks holding blocks whose light changed are relit.
+ */
+@ApiStatus.Internal
+public final class FireLight {
+  /**
+   * All the custom blocks whose light depends on their fire, resolved once the block registry is frozen.
+   */
+  @Nullable
+  private static Set<Block> blocks = null;
+
+  /**
+   * {@link FireManager#getGeneration() Fire generation} the light emissions were last computed for.
+   */
+  private static int generation = -1;
+
+  /**
+   * {@link FireManager#getGeneration() Fire generation} the light emissions were computed for before the last computation.
+   */
+  private static int previous = -1;
+
+  /**
+   * Blocks whose light emission changed during the last computation, going from {@link #previous} to {@link #generation}.
+   */
+  private static Set<Block> changed = Set.of();
+
+  private FireLight() {}
+
+  /**
+   * Brings the light emissions up to date with the registered {@link Fire Fires} and relights the given level if needed.<br />
+   * Levels that are only one computation behind get the blocks that changed in it relit, levels further behind get all the custom blocks relit.
+   *
+   * @param level level.
+   * @param relit {@link FireManager#getGeneration() fire generation} the level was last relit for, {@code -1} if never.
+   * @param chunks supplier of the chunks currently loaded in the level.
+   * @return the {@link FireManager#getGeneration() fire generation} the level is now relit for.
+   */
+  public static int update(Level level, int relit, Supplier<Iterable<LevelChunk>> chunks) {
+    if (relit == FireManager.getGeneration()) {
+      return relit;
+    }
+    Set<Block> blocksToRelight;
+    int current;
+    synchronized (FireLight.class) {
+      if (generation != FireManager.getGeneration()) {
+        previous = generation;
+        generation = FireManager.getGeneration();
+        changed = recompute();
+      }
+      current = generation;
+      if (relit == current) {
+        return current;
+      }
+      // A level that skipped a computation may have missed any change, so all the custom blocks are relit.
+      blocksToRelight = relit == previous ? changed : getBlocks();
+    }
+    if (!blocksToRelight.isEmpty()) {
+      for (LevelChunk chunk : chunks.get()) {
+        relight(level, chunk, blocksToRelight);
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Returns the chunks currently loaded in the given server level.
+   *
+   * @param level server level.
+   * @return the loaded chunks.
+   */
+  public static Iterable<LevelChunk> getLoadedChunks(ServerLevel level) {
+    List<LevelChunk> chunks = new ArrayList<>();
+    for (ChunkHolder holder : level.getChunkSource().chunkMap.getChunks()) {
+      LevelChunk chunk = level.getChunkSource().getChunkNow(holder.getPos().x, holder.getPos().z);
+      if (chunk != null) {
+        chunks.add(chunk);
+      }
+    }
+    return chunks;
+  }
+
+  /**
+   * Recomputes the light emission of every state of every custom block.
+   *
+   * @return the blocks with at least one state whose light emission changed.
+   */
+  private static Set<Block> recompute() {
+    Set<Block> blocksChanged = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Block block : getBlocks()) {
+      int light = FireManager.getProperty(((FireTyped) block).getFireType(), Fire::getLight);
+      for (BlockState state : block.getStateDefinition().getPossibleStates()) {
+        int emission = block instanceof CampfireBlock && !state.getValue(CampfireBlock.LIT) ? 0 : light;
+        if (state.lightEmission != emission) {
+          state.lightEmission = emission;
+          blocksChanged.add(block);
+        }
+      }
+    }
+    return blocksChanged;
+  }
+
+  /**
+   * Returns all the custom blocks whose light depends on their fire.
+   *
+   * @return the custom blocks.
+   */
+  private static Set<Block> getBlocks() {
+    if (blocks == null) {
+      Set<Block> customBlocks = Collections.newSetFromMap(new IdentityHashMap<>());
+      BuiltInRegistries.BLOCK.stream().filter(block -> block instanceof CustomTorchBlock || block instanceof CustomWallTorchBlock || block instanceof CustomLanternBlock || block instanceof CustomCampfireBlock || block instanceof CustomFireBlock).forEach(customBlocks::add);
+      blocks = Collections.unmodifiableSet(customBlocks);
+    }
+    return blocks;
+  }
+
+  /**
+   * Schedules a light check for each of the given blocks in the given chunk.
+   *
+   * @param level level.
+   * @param chunk chunk.
+   * @param blocksToRelight blocks whose light emission changed.
+   */
+  private static void relight(Level level, LevelChunk chunk, Set<Block> blocksToRelight) {
+    LevelChunkSection[] sections = chunk.getSections();
+    BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    for (int i = 0; i < sections.length; i++) {
+      LevelChunkSection section = sections[i];
+      if (!section.hasOnlyAir() && section.maybeHas(state -> blocksToRelight.contains(state.getBlock()))) {
+        int sectionY = chunk.getSectionYFromSectionIndex(i);
+        for (int index = 0; index < 4096; index++) {
+          if (blocksToRelight.contains(section.getBlockState(index & 15, index >> 8, (index >> 4) & 15).getBlock())) {
+            pos.set(chunk.getPos().getBlockX(index & 15), SectionPos.sectionToBlockCoord(sectionY, index >> 8), chunk.getPos().getBlockZ((index >> 4) & 15));
+            level.getLightEngine().checkBlock(pos);
+          }
+        }
+      }
+    }
+  }
+}
@@ -22,6 +22,7 @@ import net.minecraft.core.particles.SimpleParticleType;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.TagKey;
@@ -31,6 +32,7 @@ import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.StandingAndWallBlockItem;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockBehaviour;
@@ -84,6 +86,7 @@ public final class FireManager {
     Fire.Builder.DEFAULT_IN_FIRE_GETTER,
     Fire.Builder.DEFAULT_ON_FIRE_GETTER,
     Fire.Builder.DEFAULT_BEHAVIOR,
+    Fire.Builder.DEFAULT_EMISSION,
     Map.ofEntries(
       Map.entry(Fire.Component.SOURCE_BLOCK, BuiltInRegistries.BLOCK.getKey(Blocks.FIRE)),
       Map.entry(Fire.Component.CAMPFIRE_BLOCK, BuiltInRegistries.BLOCK.getKey(Blocks.CAMPFIRE)),
@@ -117,6 +120,17 @@ public final class FireManager {
    */
   private static final ConcurrentHashMap<ResourceLocation, Fire> FIRES = new ConcurrentHashMap<>();
 
+  /**
+   * Generation of the registered {@link Fire Fires}, incremented each time a {@link Fire} is registered or unregistered.
+   */
+  private static volatile int generation = 0;
+
+  /**
+   * Results of the fire block contacts resolved during the current tick, cleared at the end of each level tick.<br />
+   * Only accessed from the server thread.
+   */
+  private static final Map<Contact, Boolean> CONTACTS = new HashMap<>();
+
   static {
     FIRE_SOURCE_TAGS.register();
     CAMPFIRE_TAGS.register();
@@ -165,6 +179,7 @@ public final class FireManager {
       Constants.LOGGER.error("Fire [{}] was already registered with the following value: {}", fireType, getFire(fireType));
       return null;
     }
+    generation++;
     return fire;
   }
 
@@ -202,7 +217,21 @@ public final class FireManager {
   @Nullable
   @ApiStatus.Internal
   public static synchronized Fire unregisterFire(ResourceLocation fireType) {
-    return FIRES.remove(fireType);
+    Fire fire = FIRES.remove(fireType);
+    if (fire != null) {
+      generation++;
+    }
+    return fire;
+  }
+
+  /**
+   * Returns the current generation of the registered {@link Fire Fires}.<br />
+   * Changes each time a {@link Fire} is registered or unregistered, so it can be used to invalidate data derived from the registered {@link Fire Fires}.
+   *
+   * @return the current generation of the registered {@link Fire Fires}.
+   */
+  public static int getGeneration() {
+    return generation;
   }
 
   /**
@@ -785,6 +814,38 @@ public final class FireManager {
     return affect(entity, getDamageSource(entity, fireType, damageSourceGetter), FireManager.getProperty(fireType, Fire::getDamage), FireManager.getProperty(fireType, Fire::invertHealAndHarm));
   }
 
+  /**
+   * Same as {@link FireManager#affect(Entity, ResourceLocation, BiFunction)}, but resolves the contact at most once per tick for each entity, fire type and {@link ContactKind}.<br />
+   * Meant for contacts with fire blocks, so that an entity standing in several of them is affected only once.
+   *
+   * @param entity entity to hurt/heal.
+   * @param fireType fire type.
+   * @param kind {@link ContactKind}.
+   * @return whether the {@code entity} was hurt.
+   */
+  public static boolean affectOnContact(Entity entity, ResourceLocation fireType, ContactKind kind) {
+    if (entity.level().isClientSide) {
+      return affect(entity, fireType, kind.damageSourceGetter);
+    }
+    Contact contact = new Contact(entity.level().dimension(), entity.getId(), ensure(fireType), kind);
+    Boolean result = CONTACTS.get(contact);
+    if (result == null) {
+      result = affect(entity, fireType, kind.damageSourceGetter);
+      CONTACTS.put(contact, result);
+    }
+    return result;
+  }
+
+  /**
+   * Forgets the fire block contacts resolved so far.<br />
+   * Called at the end of each level tick.<br />
+   * Internally use only, do not use elsewhere!
+   */
+  @ApiStatus.Internal
+  public static void clearContacts() {
+    CONTACTS.clear();
+  }
+
   /**
    * Hurts or heals the given {@code entity}.<br />
    * Also applies the custom fire behavior.
@@ -819,6 +880,42 @@ public final class FireManager {
     return false;
   }
 
+  /**
+   * Contact of an entity with a fire block.
+   *
+   * @param dimension dimension of the entity.
+   * @param entityId ID of the entity.
+   * @param fireType fire type.
+   * @param kind {@link ContactKind}.
+   */
+  private record Contact(ResourceKey<Level> dimension, int entityId, ResourceLocation fireType, ContactKind kind) {}
+
+  /**
+   * Kind of contact of an entity with a fire block, determining the {@link DamageSource} used.
+   */
+  public enum ContactKind {
+    /**
+     * Contact with a fire block, uses {@link Fire#getInFire(Entity)}.
+     */
+    IN_FIRE(Fire::getInFire),
+    /**
+     * Contact with a campfire block, uses {@link Fire#getOnCampfire(Entity)}.
+     */
+    ON_CAMPFIRE(Fire::getOnCampfire);
+
+    /**
+     * Getter for the damage source.
+     */
+    private final BiFunction<Fire, Entity, DamageSource> damageSourceGetter;
+
+    /**
+     * @param damageSourceGetter {@link #damageSourceGetter}.
+     */
+    ContactKind(BiFunction<Fire, Entity, DamageSource> damageSourceGetter) {
+      this.damageSourceGetter = damageSourceGetter;
+    }
+  }
+
   /**
    * Safety methods to avoid data flow warnings for strings that are nullable but really aren't.
    *
@@ -0,0 +1,51 @@
+package it.crystalnest.soul_fire_d.api.block;
+
+import it.crystalnest.soul_fire_d.api.Fire;
+import it.crystalnest.soul_fire_d.api.FireManager;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * {@link Fire.Emission} profile of a fire type, cached for the blocks emitting particles on each animate tick.<br />
+ * The profile is looked up again only when the registered fires change, see {@link FireManager#getGeneration()}.<br />
+ * Meant to be used from the client thread only.<br />
+ * Internally use only, do not use elsewhere!
+ */
+@ApiStatus.Internal
+public final class CachedEmission {
+  /**
+   * Fire type.
+   */
+  private final ResourceLocation fireType;
+
+  /**
+   * Cached {@link Fire.Emission} profile.
+   */
+  private Fire.Emission emission = Fire.Emission.DEFAULT;
+
+  /**
+   * {@link FireManager#getGeneration() Generation} {@link #emission} was looked up at.
+   */
+  private int generation = -1;
+
+  /**
+   * @param fireType fire type.
+   */
+  public CachedEmission(ResourceLocation fireType) {
+    this.fireType = fireType;
+  }
+
+  /**
+   * Returns the {@link Fire.Emission} profile of the fire type.
+   *
+   * @return {@link Fire.Emission} profile.
+   */
+  public Fire.Emission get() {
+    int current = FireManager.getGeneration();
+    if (generation != current) {
+      emission = FireManager.getProperty(fireType, Fire::getEmission);
+      generation = current;
+    }
+    return emission;
+  }
+}
@@ -0,0 +1,145 @@
+package it.crystalnest.soul_fire_d.api.block;
+
+import it.crystalnest.soul_fire_d.api.FireGameRules;
+import it.crystalnest.soul_fire_d.api.block.entity.CustomCampfireBlockEntity;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Ticks all the custom campfires of a level in a single loop when {@link FireGameRules#SHARED_CAMPFIRE_TICKS} is enabled.<br />
+ * Campfires are handed off by their own ticker, kept in a compact array and dropped once removed, unloaded or able to {@link CustomCampfireBlock#canSleep(CustomCampfireBlockEntity) sleep}.
+ */
+@ApiStatus.Internal
+public final class CampfireTickScheduler {
+  /**
+   * Scheduler of each level.<br />
+   * Scheduled campfires reference their level, so entries must be dropped explicitly with {@link #unload(ServerLevel)}.
+   */
+  private static final Map<ServerLevel, CampfireTickScheduler> SCHEDULERS = new WeakHashMap<>();
+
+  /**
+   * Scheduled campfires, only the first {@link CampfireTickScheduler#size} are valid.
+   */
+  private CustomCampfireBlockEntity[] campfires = new CustomCampfireBlockEntity[16];
+
+  /**
+   * Slot of each scheduled campfire in {@link CampfireTickScheduler#campfires}.
+   */
+  private final Reference2IntMap<CustomCampfireBlockEntity> slots = new Reference2IntOpenHashMap<>();
+
+  /**
+   * Amount of scheduled campfires.
+   */
+  private int size = 0;
+
+  private CampfireTickScheduler() {
+    slots.defaultReturnValue(-1);
+  }
+
+  /**
+   * Returns whether custom campfires should be ticked by the shared scheduler in the given level.
+   *
+   * @param level level.
+   * @return whether campfires should be ticked by the shared scheduler.
+   */
+  public static boolean isEnabled(ServerLevel level) {
+    return level.getGameRules().getBoolean(FireGameRules.SHARED_CAMPFIRE_TICKS);
+  }
+
+  /**
+   * Schedules the given campfire, if not already scheduled.
+   *
+   * @param level level.
+   * @param campfire campfire.
+   */
+  public static void add(ServerLevel level, CustomCampfireBlockEntity campfire) {
+    CampfireTickScheduler scheduler = SCHEDULERS.computeIfAbsent(level, key -> new CampfireTickScheduler());
+    if (scheduler.slots.containsKey(campfire)) {
+      return;
+    }
+    if (scheduler.size == scheduler.campfires.length) {
+      scheduler.campfires = Arrays.copyOf(scheduler.campfires, scheduler.size * 2);
+    }
+    scheduler.slots.put(campfire, scheduler.size);
+    scheduler.campfires[scheduler.size++] = campfire;
+  }
+
+  /**
+   * Ticks all the campfires scheduled in the given level.<br />
+   * If the shared scheduler was disabled in the meantime, the campfires get their own ticker back.
+   *
+   * @param level level.
+   */
+  public static void tick(ServerLevel level) {
+    CampfireTickScheduler scheduler = SCHEDULERS.get(level);
+    if (scheduler == null || scheduler.size == 0) {
+      return;
+    }
+    if (!isEnabled(level)) {
+      for (int i = 0; i < scheduler.size; i++) {
+        CustomCampfireBlockEntity campfire = scheduler.campfires[i];
+        if (!campfire.isRemoved()) {
+          level.getChunkAt(campfire.getBlockPos()).updateBlockEntityTicker(campfire);
+        }
+      }
+      SCHEDULERS.remove(level);
+      return;
+    }
+    if (!level.tickRateManager().runsNormally()) {
+      return;
+    }
+    for (int i = 0; i < scheduler.size; ) {
+      CustomCampfireBlockEntity campfire = scheduler.campfires[i];
+      BlockPos pos = campfire.getBlockPos();
+      if (campfire.isRemoved() || campfire.getLevel() != level) {
+        scheduler.remove(i);
+        continue;
+      }
+      if (level.shouldTickBlocksAt(pos)) {
+        BlockState state = campfire.getBlockState();
+        if (!(state.getBlock() instanceof CustomCampfireBlock block)) {
+          scheduler.remove(i);
+          continue;
+        }
+        block.getServerTicker(state).tick(level, pos, state, campfire);
+        if (block.canSleep(campfire)) {
+          scheduler.remove(i);
+          continue;
+        }
+      }
+      i++;
+    }
+  }
+
+  /**
+   * Drops the scheduler of a level being unloaded.
+   *
+   * @param level level.
+   */
+  public static void unload(ServerLevel level) {
+    SCHEDULERS.remove(level);
+  }
+
+  /**
+   * Removes the campfire in the given slot, moving the last campfire in its place.
+   *
+   * @param slot slot.
+   */
+  private void remove(int slot) {
+    slots.removeInt(campfires[slot]);
+    size--;
+    if (slot != size) {
+      campfires[slot] = campfires[size];
+      slots.put(campfires[slot], slot);
+    }
+    campfires[size] = null;
+  }
+}
@@ -4,12 +4,14 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.crystalnest.soul_fire_d.api.Fire;
+import it.crystalnest.soul_fire_d.api.FireGameRules;
 import it.crystalnest.soul_fire_d.api.FireManager;
 import it.crystalnest.soul_fire_d.api.block.entity.CustomCampfireBlockEntity;
 import it.crystalnest.soul_fire_d.api.block.entity.DynamicBlockEntityType;
 import it.crystalnest.soul_fire_d.api.type.FireTyped;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.CampfireBlock;
 import net.minecraft.world.level.block.SoundType;
@@ -46,6 +48,16 @@ public class CustomCampfireBlock extends CampfireBlock implements FireTyped {
    */
   private final ResourceLocation fireType;
 
+  /**
+   * Whether this campfire uses the default {@link #cookTick()} and {@link #cooldownTick()}, in which case it has nothing to tick while its cooking slots are empty.
+   */
+  private final boolean defaultServerTickers = !overrides("cookTick") && !overrides("cooldownTick");
+
+  /**
+   * Cached {@link Fire.Emission} profile of the fire.
+   */
+  private final CachedEmission emission;
+
   /**
    * @param fireType fire type.
    * @param spawnParticles whether to spawn crackling particles.
@@ -68,6 +80,16 @@ public class CustomCampfireBlock extends CampfireBlock implements FireTyped {
   public CustomCampfireBlock(ResourceLocation fireType, boolean spawnParticles, Properties properties) {
     super(spawnParticles, Math.round(FireManager.getProperty(fireType, Fire::getDamage)), properties.lightLevel(state -> state.getValue(BlockStateProperties.LIT) ? FireManager.getProperty(fireType, Fire::getLight) : 0));
     this.fireType = fireType;
+    this.emission = new CachedEmission(fireType);
+  }
+
+  /**
+   * Returns the {@link Fire.Emission} profile of the fire, cached for the particle ticks.
+   *
+   * @return {@link Fire.Emission} profile.
+   */
+  public Fire.Emission getEmission() {
+    return emission.get();
   }
 
   /**
@@ -146,8 +168,70 @@ public class CustomCampfireBlock extends CampfireBlock implements FireTyped {
     if (level.isClientSide) {
       return state.getValue(LIT) ? createTickerHelper(blockEntityType, customBlockEntityType, particleTick()) : null;
     } else {
-      return state.getValue(LIT) ? createTickerHelper(blockEntityType, customBlockEntityType, cookTick()) : createTickerHelper(blockEntityType, customBlockEntityType, cooldownTick());
+      return createTickerHelper(blockEntityType, customBlockEntityType, serverTicker(getServerTicker(state)));
+    }
+  }
+
+  /**
+   * Returns the server ticker for the given state of this campfire.
+   *
+   * @param state block state.
+   * @return server ticker.
+   */
+  BlockEntityTicker<CampfireBlockEntity> getServerTicker(BlockState state) {
+    return state.getValue(LIT) ? cookTick() : cooldownTick();
+  }
+
+  /**
+   * Returns whether the given campfire can stop ticking on the server until food is placed on it or its block state changes.<br />
+   * By default, only campfires with empty cooking slots using the default {@link #cookTick()} and {@link #cooldownTick()} can.<br />
+   * Override if your server tickers have no work to do in other cases too, or still have work to do with empty cooking slots.
+   *
+   * @param campfire campfire block entity.
+   * @return whether the campfire can stop ticking.
+   */
+  protected boolean canSleep(CustomCampfireBlockEntity campfire) {
+    return defaultServerTickers && campfire.isIdle();
+  }
+
+  /**
+   * Wraps the given server ticker so that the campfire stops ticking as soon as it {@link #canSleep(CustomCampfireBlockEntity) can sleep}.<br />
+   * The ticker is re-armed when food is placed on the campfire or when its block state changes.<br />
+   * When {@link FireGameRules#SHARED_CAMPFIRE_TICKS} is enabled, the campfire is instead handed off to the {@link CampfireTickScheduler}.
+   *
+   * @param ticker server ticker.
+   * @return wrapped ticker.
+   */
+  private BlockEntityTicker<CampfireBlockEntity> serverTicker(BlockEntityTicker<CampfireBlockEntity> ticker) {
+    return (level, pos, state, campfire) -> {
+      if (campfire instanceof CustomCampfireBlockEntity customCampfire && level instanceof ServerLevel serverLevel && CampfireTickScheduler.isEnabled(serverLevel)) {
+        CampfireTickScheduler.add(serverLevel, customCampfire);
+        level.getChunkAt(pos).removeBlockEntityTicker(pos);
+        return;
+      }
+      ticker.tick(level, pos, state, campfire);
+      if (campfire instanceof CustomCampfireBlockEntity customCampfire && canSleep(customCampfire)) {
+        level.getChunkAt(pos).removeBlockEntityTicker(pos);
+      }
+    };
+  }
+
+  /**
+   * Returns whether the class of this campfire overrides the given no-args method of {@link CustomCampfireBlock}.
+   *
+   * @param name method name.
+   * @return whether the method is overridden.
+   */
+  private boolean overrides(String name) {
+    for (Class<?> type = getClass(); type != CustomCampfireBlock.class; type = type.getSuperclass()) {
+      try {
+        type.getDeclaredMethod(name);
+        return true;
+      } catch (NoSuchMethodException e) {
+        // Keep looking in the superclass.
+      }
     }
+    return false;
   }
 
   @Override
@@ -4,6 +4,7 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.crystalnest.soul_fire_d.api.Fire;
+import it.crystalnest.soul_fire_d.api.FireGameRules;
 import it.crystalnest.soul_fire_d.api.FireManager;
 import it.crystalnest.soul_fire_d.api.type.FireTyped;
 import net.minecraft.core.BlockPos;
@@ -12,6 +13,7 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.TagKey;
+import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
@@ -94,11 +96,18 @@ public class CustomFireBlock extends BaseFireBlock implements FireTyped {
     builder.add(AGE);
   }
 
+  /**
+   * Only the block below can affect this fire, so updates coming from other directions keep the current state.<br />
+   * When the block below changes, the fire either goes out or gets re-resolved, since a different fire may burn on the new base.
+   */
   @NotNull
   @Override
   @SuppressWarnings("deprecation")
   public BlockState updateShape(@NotNull BlockState state, @NotNull Direction direction, @NotNull BlockState state2, @NotNull LevelAccessor level, @NotNull BlockPos pos, @NotNull BlockPos pos2) {
-    return canSurvive(state, level, pos) ? getStateWithAge(level, pos, state.getValue(AGE)) : Blocks.AIR.defaultBlockState();
+    if (direction != Direction.DOWN) {
+      return state;
+    }
+    return canSurvive(state2) ? getStateWithAge(level, pos, state.getValue(AGE)) : Blocks.AIR.defaultBlockState();
   }
 
   @Override
@@ -112,9 +121,10 @@ public class CustomFireBlock extends BaseFireBlock implements FireTyped {
    */
   @Override
   @SuppressWarnings("deprecation")
-  public void tick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource rand) {
+  public void tick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource random) {
+    RandomSource rand = getRandom(level, pos, random);
     super.tick(state, level, pos, rand);
-    scheduleTick(level, pos);
+    scheduleTick(level, pos, rand);
     if (level.getGameRules().getBoolean(GameRules.RULE_DOFIRETICK)) {
       int age = state.getValue(AGE);
       if (
@@ -181,6 +191,35 @@ public class CustomFireBlock extends BaseFireBlock implements FireTyped {
    * @param pos position.
    */
   protected void scheduleTick(Level level, BlockPos pos) {
-    level.scheduleTick(pos, this, 30 + level.random.nextInt(10));
+    scheduleTick(level, pos, getRandom(level, pos, level.random));
+  }
+
+  /**
+   * Schedule the next fire tick drawing the delay from the given random source.<br />
+   * Used while ticking, so that the delay and the tick rolls come from the same generator instead of two identically seeded ones.
+   *
+   * @param level level.
+   * @param pos position.
+   * @param random random source.
+   */
+  protected void scheduleTick(Level level, BlockPos pos, RandomSource random) {
+    level.scheduleTick(pos, this, 30 + random.nextInt(10));
+  }
+
+  /**
+   * Returns the random source fire ticks should use at the given position.<br />
+   * When {@link FireGameRules#DETERMINISTIC_FIRE_TICKS} is enabled, it's seeded by the world seed, the position and the game time, otherwise it's the given one.
+   *
+   * @param level level.
+   * @param pos position.
+   * @param random random source to use when fire ticks are not deterministic.
+   * @return the random source to use.
+   */
+  static RandomSource getRandom(Level level, BlockPos pos, RandomSource random) {
+    if (level.getGameRules().getBoolean(FireGameRules.DETERMINISTIC_FIRE_TICKS)) {
+      long seed = level instanceof ServerLevel serverLevel ? serverLevel.getSeed() : 0;
+      return RandomSource.create(seed ^ Mth.getSeed(pos) ^ level.getGameTime() * 0x9E3779B97F4A7C15L);
+    }
+    return random;
   }
 }
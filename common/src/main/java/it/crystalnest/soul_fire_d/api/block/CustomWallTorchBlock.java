@@ -4,6 +4,8 @@ import it.crystalnest.soul_fire_d.api.Fire;
 import it.crystalnest.soul_fire_d.api.FireManager;
 import it.crystalnest.soul_fire_d.api.type.FireTyped;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.core.particles.SimpleParticleType;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
@@ -13,6 +15,7 @@ import net.minecraft.world.level.block.WallTorchBlock;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.PushReaction;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Supplier;
@@ -31,6 +34,11 @@ public class CustomWallTorchBlock extends WallTorchBlock implements FireTyped {
    */
   private final Supplier<SimpleParticleType> type;
 
+  /**
+   * Cached {@link Fire.Emission} profile of the fire.
+   */
+  private final CachedEmission emission;
+
   /**
    * @param fireType fire type.
    * @param type particle type.
@@ -49,15 +57,37 @@ public class CustomWallTorchBlock extends WallTorchBlock implements FireTyped {
     super(null, properties.lightLevel(state -> FireManager.getProperty(fireType, Fire::getLight)));
     this.fireType = fireType;
     this.type = type;
+    this.emission = new CachedEmission(fireType);
   }
 
+  /**
+   * Refer to {@link WallTorchBlock#animateTick(BlockState, Level, BlockPos, RandomSource)}.<br />
+   * Follows the {@link Fire.Emission} profile of the fire.
+   */
   @Override
   public void animateTick(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull RandomSource random) {
-    // noinspection ConstantValue
-    if (this.flameParticle == null) {
-      this.flameParticle = type.get();
+    Fire.Emission emission = this.emission.get();
+    if (FireParticleEmission.shouldEmit(level, pos, random, emission)) {
+      Direction opposite = state.getValue(FACING).getOpposite();
+      double x = pos.getX() + 0.5 + 0.27 * opposite.getStepX();
+      double y = pos.getY() + 0.7 + 0.22;
+      double z = pos.getZ() + 0.5 + 0.27 * opposite.getStepZ();
+      if (emission.smoke()) {
+        level.addParticle(ParticleTypes.SMOKE, x, y, z, 0, 0, 0);
+      }
+      for (int i = 0; i < emission.burst(); i++) {
+        level.addParticle(flameParticle, x, y, z, 0, 0, 0);
+      }
     }
-    super.animateTick(state, level, pos, random);
+  }
+
+  /**
+   * Binds the flame particle resolved from its supplier, so that animate ticks can use it straight away.<br />
+   * Internally use only, do not use elsewhere!
+   */
+  @ApiStatus.Internal
+  public void bindFlameParticle() {
+    this.flameParticle = type.get();
   }
 
   @Override
@@ -0,0 +1,75 @@
+package it.crystalnest.soul_fire_d.api.block;
+
+import it.crystalnest.soul_fire_d.api.Fire;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Side safe hook deciding whether custom torches and campfires spawn their particles.<br />
+ * Blocks are loaded on both sides, so they go through this hook instead of referencing client only classes.<br />
+ * The client entry points install the actual level of detail policy, until then only the {@link Fire.Emission#rate() rate} of the {@link Fire.Emission} profile is applied.
+ */
+public final class FireParticleEmission {
+  /**
+   * Installed {@link Filter}.
+   */
+  private static Filter filter = FireParticleEmission::byRate;
+
+  private FireParticleEmission() {}
+
+  /**
+   * Returns whether the emitter at the given position should spawn its particles this tick.
+   *
+   * @param level level.
+   * @param pos emitter position.
+   * @param random random source.
+   * @param emission {@link Fire.Emission} profile of the emitter.
+   * @return whether the emitter should spawn its particles.
+   */
+  public static boolean shouldEmit(Level level, BlockPos pos, RandomSource random, Fire.Emission emission) {
+    return filter.shouldEmit(level, pos, random, emission);
+  }
+
+  /**
+   * Installs the given {@link Filter}.<br />
+   * Internally use only, do not use elsewhere!
+   *
+   * @param filter {@link Filter}.
+   */
+  @ApiStatus.Internal
+  public static void setFilter(Filter filter) {
+    FireParticleEmission.filter = filter;
+  }
+
+  /**
+   * Default {@link Filter}, only applying the {@link Fire.Emission#rate() rate} of the {@link Fire.Emission} profile.
+   *
+   * @param level level.
+   * @param pos emitter position.
+   * @param random random source.
+   * @param emission {@link Fire.Emission} profile of the emitter.
+   * @return whether the emitter should spawn its particles.
+   */
+  private static boolean byRate(Level level, BlockPos pos, RandomSource random, Fire.Emission emission) {
+    return emission.rate() >= 1 || random.nextFloat() < emission.rate();
+  }
+
+  /**
+   * Policy deciding whether an emitter spawns its particles.
+   */
+  @FunctionalInterface
+  public interface Filter {
+    /**
+     * Returns whether the emitter at the given position should spawn its particles this tick.
+     *
+     * @param level level.
+     * @param pos emitter position.
+     * @param random random source.
+     * @param emission {@link Fire.Emission} profile of the emitter.
+     * @return whether the emitter should spawn its particles.
+     */
+    boolean shouldEmit(Level level, BlockPos pos, RandomSource random, Fire.Emission emission);
+  }
+}
@@ -1,16 +1,37 @@
 package it.crystalnest.soul_fire_d.api.block.entity;
 
+import com.google.common.base.Suppliers;
+import it.crystalnest.soul_fire_d.api.Fire;
 import it.crystalnest.soul_fire_d.api.FireManager;
+import it.crystalnest.soul_fire_d.api.block.CustomCampfireBlock;
+import it.crystalnest.soul_fire_d.api.block.FireParticleEmission;
+import it.crystalnest.soul_fire_d.api.type.FireTyped;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.NonNullList;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.CampfireBlock;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.entity.CampfireBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
 
 /**
  * Custom campfire block entity that allows both automatic use of {@link CampfireBlockEntity} for custom registered campfires and an easier way to create other, more specific, custom campfire block entities.
  */
 public class CustomCampfireBlockEntity extends CampfireBlockEntity {
+  /**
+   * Resolved block entity type, shared by all custom campfire block entities so that chunk loads do not go through the registry entry again.
+   */
+  private static final Supplier<BlockEntityType<CustomCampfireBlockEntity>> TYPE = Suppliers.memoize(() -> FireManager.CUSTOM_CAMPFIRE_ENTITY_TYPE.get());
+
   /**
    * @param pos campfire position.
    * @param state campfire block state.
@@ -22,6 +43,71 @@ public class CustomCampfireBlockEntity extends CampfireBlockEntity {
   @NotNull
   @Override
   public BlockEntityType<?> getType() {
-    return FireManager.CUSTOM_CAMPFIRE_ENTITY_TYPE.get();
+    return TYPE.get();
+  }
+
+  /**
+   * Refer to {@link CampfireBlockEntity#particleTick(Level, BlockPos, BlockState, CampfireBlockEntity)}.<br />
+   * Subject to the {@link FireParticleEmission} hook and follows the {@link Fire.Emission} profile of the fire.
+   *
+   * @param level level.
+   * @param pos campfire position.
+   * @param state campfire block state.
+   * @param campfire campfire block entity.
+   */
+  public static void particleTick(Level level, BlockPos pos, BlockState state, CampfireBlockEntity campfire) {
+    RandomSource random = level.random;
+    Fire.Emission emission = state.getBlock() instanceof CustomCampfireBlock block ? block.getEmission() : FireManager.getProperty(((FireTyped) state.getBlock()).getFireType(), Fire::getEmission);
+    if (!FireParticleEmission.shouldEmit(level, pos, random, emission)) {
+      return;
+    }
+    if (random.nextFloat() < 0.11F) {
+      int puffs = emission.burst() + 1 + random.nextInt(2);
+      for (int i = 0; i < puffs; i++) {
+        CampfireBlock.makeParticles(level, pos, state.getValue(CampfireBlock.SIGNAL_FIRE), false);
+      }
+    }
+    if (!emission.smoke()) {
+      return;
+    }
+    int facing = state.getValue(CampfireBlock.FACING).get2DDataValue();
+    NonNullList<ItemStack> items = campfire.getItems();
+    for (int i = 0; i < items.size(); i++) {
+      if (!items.get(i).isEmpty() && random.nextFloat() < 0.2F) {
+        Direction direction = Direction.from2DDataValue(Math.floorMod(i + facing, 4));
+        double x = pos.getX() + 0.5 - direction.getStepX() * 0.3125F + direction.getClockWise().getStepX() * 0.3125F;
+        double y = pos.getY() + 0.5;
+        double z = pos.getZ() + 0.5 - direction.getStepZ() * 0.3125F + direction.getClockWise().getStepZ() * 0.3125F;
+        for (int j = 0; j < 4; j++) {
+          level.addParticle(ParticleTypes.SMOKE, x, y, z, 0, 5.0E-4, 0);
+        }
+      }
+    }
+  }
+
+  /**
+   * Places the food and, on the server, re-arms the ticker that was removed while the campfire was idle.
+   */
+  @Override
+  public boolean placeFood(@Nullable Entity entity, @NotNull ItemStack stack, int cookTime) {
+    boolean placed = super.placeFood(entity, stack, cookTime);
+    if (placed && level != null && !level.isClientSide) {
+      level.getChunkAt(worldPosition).updateBlockEntityTicker(this);
+    }
+    return placed;
+  }
+
+  /**
+   * Returns whether all the cooking slots are empty, in which case the campfire has nothing to tick on the server.
+   *
+   * @return whether the campfire is idle.
+   */
+  public boolean isIdle() {
+    for (ItemStack item : getItems()) {
+      if (!item.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
   }
 }
@@ -3,9 +3,12 @@ package it.crystalnest.soul_fire_d.api.block.entity;
 import it.crystalnest.soul_fire_d.api.Fire;
 import it.crystalnest.soul_fire_d.api.FireManager;
 import it.crystalnest.soul_fire_d.api.block.CustomCampfireBlock;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Set;
 
 /**
@@ -14,6 +17,11 @@ import java.util.Set;
  * @param <T> block entity.
  */
 public class DynamicBlockEntityType<T extends CustomCampfireBlockEntity> extends BlockEntityType<T> {
+  /**
+   * Valid blocks, rebuilt whenever the {@link FireManager#getGeneration() fire generation} changes.
+   */
+  private volatile ValidBlocks validBlocks = new ValidBlocks(-1, Set.of());
+
   /**
    * @param supplier {@link BlockEntitySupplier} for the custom campfire block entity.
    */
@@ -24,6 +32,31 @@ public class DynamicBlockEntityType<T extends CustomCampfireBlockEntity> extends
 
   @Override
   public boolean isValid(BlockState state) {
-    return FireManager.getComponentList(Fire.Component.CAMPFIRE_BLOCK).stream().filter(CustomCampfireBlock.class::isInstance).toList().contains(state.getBlock());
+    return getValidBlocks().blocks().contains(state.getBlock());
+  }
+
+  /**
+   * Returns the up-to-date {@link ValidBlocks}, rebuilding them if the registered fires changed.
+   *
+   * @return the up-to-date {@link ValidBlocks}.
+   */
+  private ValidBlocks getValidBlocks() {
+    ValidBlocks current = validBlocks;
+    int generation = FireManager.getGeneration();
+    if (current.generation() != generation) {
+      Set<Block> blocks = Collections.newSetFromMap(new IdentityHashMap<>());
+      FireManager.getComponentList(Fire.Component.CAMPFIRE_BLOCK).stream().filter(CustomCampfireBlock.class::isInstance).forEach(blocks::add);
+      current = new ValidBlocks(generation, Collections.unmodifiableSet(blocks));
+      validBlocks = current;
+    }
+    return current;
   }
+
+  /**
+   * Identity set of the valid blocks for a given fire generation.
+   *
+   * @param generation {@link FireManager#getGeneration() fire generation} the blocks were computed for.
+   * @param blocks valid blocks.
+   */
+  private record ValidBlocks(int generation, Set<Block> blocks) {}
 }
@@ -0,0 +1,130 @@
+package it.crystalnest.soul_fire_d.api.client;
+
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.particle.FlameParticle;
+import net.minecraft.client.particle.Particle;
+import net.minecraft.client.particle.ParticleProvider;
+import net.minecraft.client.particle.SpriteSet;
+import net.minecraft.core.particles.SimpleParticleType;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Flame particle provider for custom fire types, capping the amount of live particles of its fire type.<br />
+ * Once the {@link FireClientSettings#getFlameParticleCap() cap} is reached, new particles are dropped until older ones expire.
+ */
+public final class CappedFlameParticleProvider implements ParticleProvider<SimpleParticleType> {
+  /**
+   * All the created providers, to reset when the client level changes.
+   */
+  private static final Set<CappedFlameParticleProvider> PROVIDERS = Collections.newSetFromMap(new WeakHashMap<>());
+
+  /**
+   * Vanilla flame particle provider.
+   */
+  private final FlameParticle.Provider provider;
+
+  /**
+   * Ring buffer of the particles created by this provider, oldest first, that may still be alive.<br />
+   * Sized to the {@link FireClientSettings#getFlameParticleCap() cap}.
+   */
+  private Particle[] particles = new Particle[0];
+
+  /**
+   * Ring buffer of the game times past which each of the {@link #particles} can no longer be alive.<br />
+   * The expiry covers particles the engine evicts without removing them, which would otherwise stay alive forever.
+   */
+  private long[] expiries = new long[0];
+
+  /**
+   * Slot of the oldest tracked particle.
+   */
+  private int head = 0;
+
+  /**
+   * Amount of tracked particles.
+   */
+  private int size = 0;
+
+  /**
+   * @param sprites flame sprites.
+   */
+  public CappedFlameParticleProvider(SpriteSet sprites) {
+    this.provider = new FlameParticle.Provider(sprites);
+    PROVIDERS.add(this);
+  }
+
+  /**
+   * Forgets the particles tracked by every provider.<br />
+   * Must be called whenever the particle engine drops its particles, since it does so without removing them.<br />
+   * Internally use only, do not use elsewhere!
+   */
+  @ApiStatus.Internal
+  public static void clearAll() {
+    for (CappedFlameParticleProvider provider : PROVIDERS) {
+      provider.clear();
+    }
+  }
+
+  @Nullable
+  @Override
+  public Particle createParticle(@NotNull SimpleParticleType type, @NotNull ClientLevel level, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+    int cap = FireClientSettings.getFlameParticleCap();
+    if (cap != particles.length) {
+      resize(cap);
+    }
+    long time = level.getGameTime();
+    // Flames share a short lifetime, so expired particles pile up at the head and pruning it is enough.
+    while (size > 0 && (!particles[head].isAlive() || time > expiries[head])) {
+      particles[head] = null;
+      head = (head + 1) % particles.length;
+      size--;
+    }
+    if (size >= cap) {
+      return null;
+    }
+    Particle particle = provider.createParticle(type, level, x, y, z, xSpeed, ySpeed, zSpeed);
+    if (particle != null) {
+      int tail = (head + size) % particles.length;
+      particles[tail] = particle;
+      expiries[tail] = time + particle.getLifetime() + 1;
+      size++;
+    }
+    return particle;
+  }
+
+  /**
+   * Forgets the tracked particles.
+   */
+  private void clear() {
+    Arrays.fill(particles, null);
+    head = 0;
+    size = 0;
+  }
+
+  /**
+   * Resizes the ring buffers to the given cap, keeping the newest tracked particles that fit.
+   *
+   * @param cap flame particle cap.
+   */
+  private void resize(int cap) {
+    Particle[] resizedParticles = new Particle[cap];
+    long[] resizedExpiries = new long[cap];
+    int kept = Math.min(size, cap);
+    for (int i = 0; i < kept; i++) {
+      int slot = (head + size - kept + i) % particles.length;
+      resizedParticles[i] = particles[slot];
+      resizedExpiries[i] = expiries[slot];
+    }
+    particles = resizedParticles;
+    expiries = resizedExpiries;
+    head = 0;
+    size = kept;
+  }
+}
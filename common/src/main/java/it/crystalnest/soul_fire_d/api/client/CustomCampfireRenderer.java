@@ -0,0 +1,72 @@
+package it.crystalnest.soul_fire_d.api.client;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.math.Axis;
+import it.crystalnest.soul_fire_d.api.block.entity.CustomCampfireBlockEntity;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
+import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
+import net.minecraft.client.renderer.blockentity.CampfireRenderer;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.core.NonNullList;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.CampfireBlock;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Renderer for the items cooking on custom campfires, client side only.<br />
+ * Same as {@link CampfireRenderer}, but skips idle campfires altogether and resolves the item model only once for identical consecutive items.
+ */
+public class CustomCampfireRenderer implements BlockEntityRenderer<CustomCampfireBlockEntity> {
+  /**
+   * {@link ItemRenderer}.
+   */
+  private final ItemRenderer itemRenderer;
+
+  /**
+   * @param context {@link BlockEntityRendererProvider.Context}.
+   */
+  public CustomCampfireRenderer(BlockEntityRendererProvider.Context context) {
+    this.itemRenderer = context.getItemRenderer();
+  }
+
+  @Override
+  public boolean shouldRender(@NotNull CustomCampfireBlockEntity campfire, @NotNull Vec3 cameraPos) {
+    return !campfire.isIdle() && BlockEntityRenderer.super.shouldRender(campfire, cameraPos);
+  }
+
+  /**
+   * Refer to {@link CampfireRenderer#render(net.minecraft.world.level.block.entity.CampfireBlockEntity, float, PoseStack, MultiBufferSource, int, int)}.
+   */
+  @Override
+  public void render(@NotNull CustomCampfireBlockEntity campfire, float partialTick, @NotNull PoseStack poseStack, @NotNull MultiBufferSource bufferSource, int packedLight, int packedOverlay) {
+    Direction facing = campfire.getBlockState().getValue(CampfireBlock.FACING);
+    NonNullList<ItemStack> items = campfire.getItems();
+    int seed = (int) campfire.getBlockPos().asLong();
+    @Nullable ItemStack previous = null;
+    @Nullable BakedModel model = null;
+    for (int i = 0; i < items.size(); i++) {
+      ItemStack stack = items.get(i);
+      if (stack.isEmpty()) {
+        continue;
+      }
+      if (model == null || !ItemStack.isSameItemSameComponents(stack, previous)) {
+        model = itemRenderer.getModel(stack, campfire.getLevel(), null, seed + i);
+        previous = stack;
+      }
+      poseStack.pushPose();
+      poseStack.translate(0.5F, 0.44921875F, 0.5F);
+      poseStack.mulPose(Axis.YP.rotationDegrees(-Direction.from2DDataValue((i + facing.get2DDataValue()) % 4).toYRot()));
+      poseStack.mulPose(Axis.XP.rotationDegrees(90.0F));
+      poseStack.translate(-0.3125F, -0.3125F, 0.0F);
+      poseStack.scale(0.375F, 0.375F, 0.375F);
+      itemRenderer.render(stack, ItemDisplayContext.FIXED, false, poseStack, bufferSource, packedLight, packedOverlay, model);
+      poseStack.popPose();
+    }
+  }
+}
@@ -5,6 +5,8 @@ import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.resources.model.Material;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.inventory.InventoryMenu;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Fire, client side only.
@@ -27,6 +29,25 @@ public final class FireClient {
    */
   private final Material material1;
 
+  /**
+   * Resolved sprite of {@link #material0}.<br />
+   * Cached until the next resource reload.
+   */
+  @Nullable
+  private TextureAtlasSprite sprite0 = null;
+
+  /**
+   * Resolved sprite of {@link #material1}.<br />
+   * Cached until the next resource reload.
+   */
+  @Nullable
+  private TextureAtlasSprite sprite1 = null;
+
+  /**
+   * {@link FireSpriteAnimator#getTick() Tick} at which the sprites of this Fire were last known to be in use.
+   */
+  private int lastUsed = Integer.MIN_VALUE;
+
   /**
    * @param fireType {@link #fireType}.
    */
@@ -72,7 +93,10 @@ public final class FireClient {
    * @return this sprite 0.
    */
   public TextureAtlasSprite getSprite0() {
-    return material0.sprite();
+    if (sprite0 == null) {
+      sprite0 = material0.sprite();
+    }
+    return sprite0;
   }
 
   /**
@@ -81,7 +105,37 @@ public final class FireClient {
    * @return this sprite 1.
    */
   public TextureAtlasSprite getSprite1() {
-    return material1.sprite();
+    if (sprite1 == null) {
+      sprite1 = material1.sprite();
+    }
+    return sprite1;
+  }
+
+  /**
+   * Resolves again both sprites from the block atlas.<br />
+   * Must be called after the block atlas is reloaded.
+   */
+  void reloadSprites() {
+    sprite0 = material0.sprite();
+    sprite1 = material1.sprite();
+  }
+
+  /**
+   * Marks the sprites of this Fire as in use for the current {@link FireSpriteAnimator#getTick() tick}, so they keep being animated.<br />
+   * Internally use only, do not use elsewhere!
+   */
+  @ApiStatus.Internal
+  public void markUsed() {
+    lastUsed = FireSpriteAnimator.getTick();
+  }
+
+  /**
+   * Returns the {@link FireSpriteAnimator#getTick() tick} at which the sprites of this Fire were last known to be in use.
+   *
+   * @return the tick at which the sprites of this Fire were last used.
+   */
+  int getLastUsed() {
+    return lastUsed;
   }
 
   @Override
@@ -3,26 +3,56 @@ package it.crystalnest.soul_fire_d.api.client;
 import it.crystalnest.soul_fire_d.Constants;
 import it.crystalnest.soul_fire_d.api.Fire;
 import it.crystalnest.soul_fire_d.api.FireManager;
+import it.crystalnest.soul_fire_d.api.block.CustomCampfireBlock;
+import it.crystalnest.soul_fire_d.api.block.CustomFireBlock;
+import it.crystalnest.soul_fire_d.api.block.CustomTorchBlock;
+import it.crystalnest.soul_fire_d.api.block.CustomWallTorchBlock;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.MissingTextureAtlasSprite;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.resources.model.Material;
 import net.minecraft.client.resources.model.ModelBakery;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 /**
  * Static manager for registered Fires, client side only.
  */
 public final class FireClientManager {
   /**
-   * {@link ConcurrentHashMap} of all registered {@link FireClient Fires}.
+   * Table of all registered {@link FireClient Fires}.<br />
+   * Replaced as a whole on each registration change, so readers never need to lock.
    */
-  private static final ConcurrentHashMap<ResourceLocation, FireClient> FIRES = new ConcurrentHashMap<>();
+  private static volatile Table table = new Table(new Object2IntOpenHashMap<>(), new FireClient[0]);
+
+  /**
+   * Generation of the registered {@link FireClient Fires}, incremented on each successful registration or unregistration.
+   */
+  private static volatile int generation = 0;
+
+  /**
+   * Resolved {@link ModelBakery#FIRE_0} sprite, cached until the next resource reload.
+   */
+  @Nullable
+  private static TextureAtlasSprite defaultSprite0 = null;
+
+  /**
+   * Resolved {@link ModelBakery#FIRE_1} sprite, cached until the next resource reload.
+   */
+  @Nullable
+  private static TextureAtlasSprite defaultSprite1 = null;
 
   private FireClientManager() {}
 
@@ -35,11 +65,32 @@ public final class FireClientManager {
    */
   @Nullable
   private static synchronized FireClient registerFire(FireClient fire) {
-    if (FIRES.putIfAbsent(fire.getFireType(), fire) != null) {
-      ResourceLocation fireType = fire.getFireType();
-      Constants.LOGGER.error("FireClient [{}] was already registered with the following value: {}", fireType, FIRES.get(fireType));
+    ResourceLocation fireType = fire.getFireType();
+    Table current = table;
+    int id = current.getId(fireType);
+    if (id >= 0 && current.fires[id] != null) {
+      Constants.LOGGER.error("FireClient [{}] was already registered with the following value: {}", fireType, current.fires[id]);
       return null;
     }
+    Object2IntMap<ResourceLocation> ids = current.ids;
+    FireClient[] fires = current.fires;
+    if (id < 0) {
+      // Ids are never released, so the next free id is always the amount of ids assigned so far.
+      id = ids.size();
+      ids = new Object2IntOpenHashMap<>(ids);
+      ids.put(fireType, id);
+      fires = Arrays.copyOf(fires, id + 1);
+    } else {
+      fires = fires.clone();
+    }
+    fires[id] = fire;
+    table = new Table(ids, fires);
+    generation++;
+    if (defaultSprite0 != null) {
+      // The block atlas is already loaded (e.g. ddfires received when joining a server), so sprites can be resolved right away.
+      fire.reloadSprites();
+      logMissingTextures(List.of(fire));
+    }
     return fire;
   }
 
@@ -88,7 +139,158 @@ public final class FireClientManager {
   @Nullable
   @ApiStatus.Internal
   public static synchronized FireClient unregisterFire(ResourceLocation fireType) {
-    return FIRES.remove(fireType);
+    Table current = table;
+    int id = current.getId(fireType);
+    if (id < 0 || current.fires[id] == null) {
+      return null;
+    }
+    FireClient[] fires = current.fires.clone();
+    fires[id] = null;
+    table = new Table(current.ids, fires);
+    generation++;
+    return current.fires[id];
+  }
+
+  /**
+   * Returns the current generation of the registered {@link FireClient Fires}.<br />
+   * Can be used to invalidate caches built on top of the registered {@link FireClient Fires}.
+   *
+   * @return the current generation of the registered {@link FireClient Fires}.
+   */
+  public static int getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Returns all the currently registered {@link FireClient Fires}.
+   *
+   * @return all the currently registered {@link FireClient Fires}.
+   */
+  static List<FireClient> getFires() {
+    List<FireClient> fires = new ArrayList<>();
+    for (FireClient fire : table.fires) {
+      if (fire != null) {
+        fires.add(fire);
+      }
+    }
+    return fires;
+  }
+
+  /**
+   * Binds the flame particle of every custom torch and wall torch.<br />
+   * Must be called once all the registries are populated.<br />
+   * Internally use only, do not use elsewhere!
+   */
+  @ApiStatus.Internal
+  public static void bindFlameParticles() {
+    for (Block block : BuiltInRegistries.BLOCK) {
+      if (block instanceof CustomTorchBlock torch) {
+        torch.bindFlameParticle();
+      } else if (block instanceof CustomWallTorchBlock torch) {
+        torch.bindFlameParticle();
+      }
+    }
+  }
+
+  /**
+   * Assigns the cutout render layer to every custom fire source, campfire, torch and wall torch block.<br />
+   * All the registered blocks are scanned rather than the components of the currently registered fires, so blocks later bound to ddfires received from a server already have the correct layer.<br />
+   * Must be called once all the registries are populated.<br />
+   * Internally use only, do not use elsewhere!
+   *
+   * @param setter loader specific render layer setter.
+   */
+  @ApiStatus.Internal
+  public static void registerRenderLayers(BiConsumer<Block, RenderType> setter) {
+    for (Block block : BuiltInRegistries.BLOCK) {
+      if (block instanceof CustomFireBlock || block instanceof CustomCampfireBlock || block instanceof CustomTorchBlock || block instanceof CustomWallTorchBlock) {
+        setter.accept(block, RenderType.cutout());
+      }
+    }
+  }
+
+  /**
+   * Resolves again the sprites of the default fire and of every registered {@link FireClient}.<br />
+   * Logs at once all the fire textures missing from the block atlas.<br />
+   * Must be called after the block atlas is reloaded.<br />
+   * Internally use only, do not use elsewhere!
+   */
+  @ApiStatus.Internal
+  public static void reloadSprites() {
+    defaultSprite0 = ModelBakery.FIRE_0.sprite();
+    defaultSprite1 = ModelBakery.FIRE_1.sprite();
+    List<FireClient> fires = getFires();
+    for (FireClient fire : fires) {
+      fire.reloadSprites();
+    }
+    logMissingTextures(fires);
+  }
+
+  /**
+   * Logs in a single message all the textures of the given {@link FireClient Fires} that are missing from the block atlas.
+   *
+   * @param fires {@link FireClient Fires} to check.
+   */
+  private static void logMissingTextures(List<FireClient> fires) {
+    List<ResourceLocation> missing = new ArrayList<>();
+    for (FireClient fire : fires) {
+      if (isMissing(fire.getSprite0())) {
+        missing.add(fire.getMaterial0().texture());
+      }
+      if (isMissing(fire.getSprite1())) {
+        missing.add(fire.getMaterial1().texture());
+      }
+    }
+    if (!missing.isEmpty()) {
+      Constants.LOGGER.warn("Missing {} fire texture(s) from the block atlas, the missing texture will be rendered instead: {}", missing.size(), missing);
+    }
+  }
+
+  /**
+   * Returns whether the given sprite is the missing texture sprite.
+   *
+   * @param sprite sprite.
+   * @return whether the given sprite is the missing texture sprite.
+   */
+  private static boolean isMissing(TextureAtlasSprite sprite) {
+    return MissingTextureAtlasSprite.getLocation().equals(sprite.contents().name());
+  }
+
+  /**
+   * Returns the {@link FireClient} registered with the given {@code fireType}.<br />
+   * Returns {@code null} if no {@link FireClient} or {@link Fire} was registered with the given {@code fireType}.
+   *
+   * @param fireType fire type.
+   * @return the {@link FireClient} registered with the given {@code fireType}.
+   */
+  @Nullable
+  public static FireClient getFire(@Nullable ResourceLocation fireType) {
+    return FireManager.isRegisteredType(fireType) ? getFire(table.getId(fireType)) : null;
+  }
+
+  /**
+   * Returns the {@link FireClient} registered with the given {@code id}.<br />
+   * Returns {@code null} if no {@link FireClient} is currently registered with the given {@code id}.
+   *
+   * @param id fire id, as returned by {@link #getId(ResourceLocation)}.
+   * @return the {@link FireClient} registered with the given {@code id}.
+   */
+  @Nullable
+  public static FireClient getFire(int id) {
+    FireClient[] fires = table.fires;
+    return id >= 0 && id < fires.length ? fires[id] : null;
+  }
+
+  /**
+   * Returns the dense id assigned to the given {@code fireType}.<br />
+   * Ids are assigned on the first registration and stay the same for the whole session, even across unregistrations.<br />
+   * Returns {@code -1} if the given {@code fireType} was never registered.
+   *
+   * @param fireType fire type.
+   * @return the dense id assigned to the given {@code fireType}.
+   */
+  public static int getId(@Nullable ResourceLocation fireType) {
+    return fireType == null ? -1 : table.getId(fireType);
   }
 
   /**
@@ -99,8 +301,9 @@ public final class FireClientManager {
    * @return the {@link FireClient#material0} of the {@link FireClient}.
    */
   public static Material getMaterial0(ResourceLocation fireType) {
-    if (FireManager.isRegisteredType(fireType) && FIRES.containsKey(fireType)) {
-      return FIRES.get(fireType).getMaterial0();
+    FireClient fire = getFire(fireType);
+    if (fire != null) {
+      return fire.getMaterial0();
     }
     return ModelBakery.FIRE_0;
   }
@@ -113,8 +316,9 @@ public final class FireClientManager {
    * @return the {@link FireClient#material1} of the {@link FireClient}.
    */
   public static Material getMaterial1(ResourceLocation fireType) {
-    if (FireManager.isRegisteredType(fireType) && FIRES.containsKey(fireType)) {
-      return FIRES.get(fireType).getMaterial1();
+    FireClient fire = getFire(fireType);
+    if (fire != null) {
+      return fire.getMaterial1();
     }
     return ModelBakery.FIRE_1;
   }
@@ -127,10 +331,14 @@ public final class FireClientManager {
    * @return the sprite 0 of the {@link FireClient}.
    */
   public static TextureAtlasSprite getSprite0(ResourceLocation fireType) {
-    if (FireManager.isRegisteredType(fireType) && FIRES.containsKey(fireType)) {
-      return FIRES.get(fireType).getSprite0();
+    FireClient fire = getFire(fireType);
+    if (fire != null) {
+      return fire.getSprite0();
+    }
+    if (defaultSprite0 == null) {
+      defaultSprite0 = ModelBakery.FIRE_0.sprite();
     }
-    return ModelBakery.FIRE_0.sprite();
+    return defaultSprite0;
   }
 
   /**
@@ -141,9 +349,39 @@ public final class FireClientManager {
    * @return the sprite 1 of the {@link FireClient} registered with the given {@code fireType}.
    */
   public static TextureAtlasSprite getSprite1(ResourceLocation fireType) {
-    if (FireManager.isRegisteredType(fireType) && FIRES.containsKey(fireType)) {
-      return FIRES.get(fireType).getSprite1();
+    FireClient fire = getFire(fireType);
+    if (fire != null) {
+      return fire.getSprite1();
+    }
+    if (defaultSprite1 == null) {
+      defaultSprite1 = ModelBakery.FIRE_1.sprite();
+    }
+    return defaultSprite1;
+  }
+
+  /**
+   * Snapshot of the registered {@link FireClient Fires}.
+   *
+   * @param ids dense id of each fire type ever registered.
+   * @param fires {@link FireClient Fires} indexed by id, {@code null} where unregistered.
+   */
+  private record Table(Object2IntMap<ResourceLocation> ids, @Nullable FireClient[] fires) {
+    /**
+     * @param ids {@link #ids}.
+     * @param fires {@link #fires}.
+     */
+    private Table {
+      ids.defaultReturnValue(-1);
+    }
+
+    /**
+     * Returns the id of the given {@code fireType}, {@code -1} if none was assigned.
+     *
+     * @param fireType fire type.
+     * @return the id of the given {@code fireType}.
+     */
+    private int getId(ResourceLocation fireType) {
+      return ids.getInt(fireType);
     }
-    return ModelBakery.FIRE_1.sprite();
   }
 }
@@ -0,0 +1,186 @@
+package it.crystalnest.soul_fire_d.api.client;
+
+/**
+ * Client side only settings for the rendering of fires.<br />
+ * Meant to be tuned by other mods or configuration screens.
+ */
+public final class FireClientSettings {
+  /**
+   * Whether custom torches and campfires emit particles.
+   */
+  private static volatile boolean particles = true;
+
+  /**
+   * Distance from the camera within which custom emitters spawn particles at full rate.
+   */
+  private static volatile double particleFullDistance = 16;
+
+  /**
+   * Distance from the camera beyond which custom emitters stop spawning particles.
+   */
+  private static volatile double particleMaxDistance = 48;
+
+  /**
+   * Maximum amount of custom emitters allowed to spawn particles in a single client tick.
+   */
+  private static volatile int particleBudget = 256;
+
+  /**
+   * Maximum amount of live flame particles of each custom fire type.
+   */
+  private static volatile int flameParticleCap = 512;
+
+  /**
+   * Distance from the camera beyond which burning entities stop rendering custom flame overlays.<br />
+   * Unlimited by default, so the fallback only applies when explicitly enabled.
+   */
+  private static volatile double overlayDistance = Double.POSITIVE_INFINITY;
+
+  /**
+   * How flame overlays are rendered beyond the {@link #overlayDistance}.
+   */
+  private static volatile OverlayFallback overlayFallback = OverlayFallback.VANILLA;
+
+  private FireClientSettings() {}
+
+  /**
+   * Returns whether custom torches and campfires emit particles.
+   *
+   * @return whether custom torches and campfires emit particles.
+   */
+  public static boolean hasParticles() {
+    return particles;
+  }
+
+  /**
+   * Sets whether custom torches and campfires emit particles.
+   *
+   * @param particles whether custom torches and campfires emit particles.
+   */
+  public static void setParticles(boolean particles) {
+    FireClientSettings.particles = particles;
+  }
+
+  /**
+   * Returns the distance from the camera within which custom emitters spawn particles at full rate.
+   *
+   * @return the full rate distance.
+   */
+  public static double getParticleFullDistance() {
+    return particleFullDistance;
+  }
+
+  /**
+   * Returns the distance from the camera beyond which custom emitters stop spawning particles.
+   *
+   * @return the maximum distance.
+   */
+  public static double getParticleMaxDistance() {
+    return particleMaxDistance;
+  }
+
+  /**
+   * Sets the distances used for the particle falloff.<br />
+   * Between the two distances, the chance to spawn particles decreases linearly.
+   *
+   * @param fullDistance distance within which particles spawn at full rate.
+   * @param maxDistance distance beyond which particles stop spawning.
+   */
+  public static void setParticleDistances(double fullDistance, double maxDistance) {
+    if (fullDistance < 0 || maxDistance < fullDistance) {
+      throw new IllegalArgumentException("Invalid particle distances [" + fullDistance + ", " + maxDistance + "]");
+    }
+    particleFullDistance = fullDistance;
+    particleMaxDistance = maxDistance;
+  }
+
+  /**
+   * Returns the maximum amount of custom emitters allowed to spawn particles in a single client tick.
+   *
+   * @return the particle budget.
+   */
+  public static int getParticleBudget() {
+    return particleBudget;
+  }
+
+  /**
+   * Sets the maximum amount of custom emitters allowed to spawn particles in a single client tick.
+   *
+   * @param budget particle budget.
+   */
+  public static void setParticleBudget(int budget) {
+    particleBudget = Math.max(budget, 0);
+  }
+
+  /**
+   * Returns the maximum amount of live flame particles of each custom fire type.
+   *
+   * @return the flame particle cap.
+   */
+  public static int getFlameParticleCap() {
+    return flameParticleCap;
+  }
+
+  /**
+   * Sets the maximum amount of live flame particles of each custom fire type.
+   *
+   * @param cap flame particle cap.
+   */
+  public static void setFlameParticleCap(int cap) {
+    flameParticleCap = Math.max(cap, 0);
+  }
+
+  /**
+   * Returns the distance from the camera beyond which burning entities stop rendering custom flame overlays.
+   *
+   * @return the overlay distance.
+   */
+  public static double getOverlayDistance() {
+    return overlayDistance;
+  }
+
+  /**
+   * Sets the distance from the camera beyond which burning entities stop rendering custom flame overlays.<br />
+   * Use {@link Double#POSITIVE_INFINITY} to always render custom flame overlays.
+   *
+   * @param distance overlay distance.
+   */
+  public static void setOverlayDistance(double distance) {
+    if (distance < 0) {
+      throw new IllegalArgumentException("Invalid overlay distance [" + distance + "]");
+    }
+    overlayDistance = distance;
+  }
+
+  /**
+   * Returns how flame overlays are rendered beyond the overlay distance.
+   *
+   * @return the overlay fallback.
+   */
+  public static OverlayFallback getOverlayFallback() {
+    return overlayFallback;
+  }
+
+  /**
+   * Sets how flame overlays are rendered beyond the overlay distance.
+   *
+   * @param fallback overlay fallback.
+   */
+  public static void setOverlayFallback(OverlayFallback fallback) {
+    overlayFallback = fallback;
+  }
+
+  /**
+   * How flame overlays are rendered beyond the overlay distance.
+   */
+  public enum OverlayFallback {
+    /**
+     * Render the vanilla flame overlay, skipping the fire type lookup.
+     */
+    VANILLA,
+    /**
+     * Do not render the flame overlay at all.
+     */
+    SKIP
+  }
+}
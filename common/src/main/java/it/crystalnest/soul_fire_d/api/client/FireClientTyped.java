@@ -0,0 +1,18 @@
+package it.crystalnest.soul_fire_d.api.client;
+
+import it.crystalnest.soul_fire_d.api.type.FireTyped;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * {@link FireTyped} that caches the {@link FireClientManager#getId(net.minecraft.resources.ResourceLocation) id} of its fire type, client side only.
+ */
+@ApiStatus.Internal
+public interface FireClientTyped extends FireTyped {
+  /**
+   * Returns the {@link FireClientManager#getId(net.minecraft.resources.ResourceLocation) id} of this {@code fireType}.<br />
+   * Resolved again only when this {@code fireType} changes.
+   *
+   * @return the id of this {@code fireType}, {@code -1} if it was never registered.
+   */
+  int getFireClientId();
+}
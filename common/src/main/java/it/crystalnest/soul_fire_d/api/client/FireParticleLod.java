@@ -0,0 +1,73 @@
+package it.crystalnest.soul_fire_d.api.client;
+
+import it.crystalnest.soul_fire_d.api.Fire;
+import it.crystalnest.soul_fire_d.api.block.FireParticleEmission;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.ParticleStatus;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Level of detail policy for the particles emitted by custom torches and campfires, client side only, installed as the {@link FireParticleEmission} filter by the client entry points.<br />
+ * Particles are thinned out with the distance from the camera and capped by a per tick budget, according to {@link FireClientSettings}, and further limited by the {@link Fire.Emission} profile of each fire.
+ */
+public final class FireParticleLod {
+  /**
+   * Amount of emitters that spawned particles during the current tick in each chunk.
+   */
+  private static final Long2IntOpenHashMap CHUNK_EMITTERS = new Long2IntOpenHashMap();
+
+  /**
+   * Game time of the tick {@link FireParticleLod#emitters} refers to.
+   */
+  private static long tick = Long.MIN_VALUE;
+
+  /**
+   * Amount of emitters that spawned particles during the current tick.
+   */
+  private static int emitters = 0;
+
+  private FireParticleLod() {}
+
+  /**
+   * Returns whether the emitter at the given position should spawn its particles this tick.
+   *
+   * @param level level.
+   * @param pos emitter position.
+   * @param random random source.
+   * @param emission {@link Fire.Emission} profile of the emitter.
+   * @return whether the emitter should spawn its particles.
+   */
+  public static boolean shouldEmit(Level level, BlockPos pos, RandomSource random, Fire.Emission emission) {
+    Minecraft minecraft = Minecraft.getInstance();
+    if (!FireClientSettings.hasParticles() || minecraft.options.particles().get() == ParticleStatus.MINIMAL) {
+      return false;
+    }
+    if (level.getGameTime() != tick) {
+      tick = level.getGameTime();
+      emitters = 0;
+      CHUNK_EMITTERS.clear();
+    }
+    if (emitters >= FireClientSettings.getParticleBudget() || emission.rate() < 1 && random.nextFloat() >= emission.rate()) {
+      return false;
+    }
+    long chunk = ChunkPos.asLong(pos);
+    if (emission.maxEmittersPerChunk() > 0 && CHUNK_EMITTERS.get(chunk) >= emission.maxEmittersPerChunk()) {
+      return false;
+    }
+    Camera camera = minecraft.gameRenderer.getMainCamera();
+    double distance = Math.sqrt(pos.distToCenterSqr(camera.getPosition()));
+    double full = FireClientSettings.getParticleFullDistance();
+    double max = FireClientSettings.getParticleMaxDistance();
+    if (distance > full && (distance >= max || random.nextDouble() >= (max - distance) / (max - full))) {
+      return false;
+    }
+    emitters++;
+    CHUNK_EMITTERS.addTo(chunk, 1);
+    return true;
+  }
+}
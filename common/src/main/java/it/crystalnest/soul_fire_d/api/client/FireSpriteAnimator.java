@@ -0,0 +1,169 @@
+package it.crystalnest.soul_fire_d.api.client;
+
+import it.crystalnest.soul_fire_d.api.type.FireTyped;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Static manager deciding which custom fire sprites get animated, client side only.<br />
+ * The animated sprites of a {@link FireClient} are only ticked while a fire source block of its fire type is loaded around the camera or an entity burning from it was rendered recently.<br />
+ * Sprites not belonging to any {@link FireClient} are always animated.
+ */
+public final class FireSpriteAnimator {
+  /**
+   * Interval, in client ticks, between two scans of the loaded chunks.
+   */
+  private static final int SCAN_INTERVAL = 10;
+
+  /**
+   * Amount of client ticks the sprites of a {@link FireClient} keep being animated after their last known use.
+   */
+  private static final int IDLE_TICKS = SCAN_INTERVAL * 2 + 5;
+
+  /**
+   * Texture of each animated sprite ticker of the block atlas.
+   */
+  private static final Reference2ObjectMap<TextureAtlasSprite.Ticker, ResourceLocation> TICKERS = new Reference2ObjectOpenHashMap<>();
+
+  /**
+   * {@link FireClient} owning each animated sprite ticker, for the current {@link #generation}.
+   */
+  private static final Reference2ObjectMap<TextureAtlasSprite.Ticker, FireClient> OWNERS = new Reference2ObjectOpenHashMap<>();
+
+  /**
+   * {@link FireClientManager#getGeneration() Generation} {@link #OWNERS} were resolved at.
+   */
+  private static int generation = -1;
+
+  /**
+   * Current client tick.
+   */
+  private static int tick = 0;
+
+  private FireSpriteAnimator() {}
+
+  /**
+   * Returns the current client tick, as counted by this animator.
+   *
+   * @return the current client tick.
+   */
+  public static int getTick() {
+    return tick;
+  }
+
+  /**
+   * Forgets all the tracked sprite tickers.<br />
+   * Must be called before the block atlas is uploaded again.<br />
+   * Internally use only, do not use elsewhere!
+   */
+  @ApiStatus.Internal
+  public static void clear() {
+    TICKERS.clear();
+    OWNERS.clear();
+    generation = -1;
+  }
+
+  /**
+   * Tracks the ticker of an animated sprite of the block atlas.<br />
+   * Internally use only, do not use elsewhere!
+   *
+   * @param sprite animated sprite.
+   * @param ticker ticker of the sprite.
+   */
+  @ApiStatus.Internal
+  public static void track(TextureAtlasSprite sprite, TextureAtlasSprite.Ticker ticker) {
+    TICKERS.put(ticker, sprite.contents().name());
+    generation = -1;
+  }
+
+  /**
+   * Returns whether the given sprite ticker should be ticked this time.<br />
+   * Internally use only, do not use elsewhere!
+   *
+   * @param ticker sprite ticker.
+   * @return whether the given sprite ticker should be ticked.
+   */
+  @ApiStatus.Internal
+  public static boolean shouldAnimate(TextureAtlasSprite.Ticker ticker) {
+    if (generation != FireClientManager.getGeneration()) {
+      resolveOwners();
+    }
+    FireClient fire = OWNERS.get(ticker);
+    return fire == null || fire.getLastUsed() >= tick - IDLE_TICKS;
+  }
+
+  /**
+   * Advances the client tick and, every {@link #SCAN_INTERVAL} ticks, marks as in use the {@link FireClient Fires} whose fire source blocks are in the given chunks.<br />
+   * Internally use only, do not use elsewhere!
+   *
+   * @param chunks supplier of the chunks loaded around the camera.
+   */
+  @ApiStatus.Internal
+  public static void tick(Supplier<Iterable<LevelChunk>> chunks) {
+    tick++;
+    if (tick % SCAN_INTERVAL != 0 || TICKERS.isEmpty()) {
+      return;
+    }
+    boolean unknown = false;
+    for (LevelChunk chunk : chunks.get()) {
+      for (LevelChunkSection section : chunk.getSections()) {
+        // The predicate never matches so that every palette entry gets visited, marking fires along the way.
+        // Only the global palette answers without visiting its entries.
+        unknown |= !section.hasOnlyAir() && section.maybeHas(FireSpriteAnimator::markUsed);
+      }
+    }
+    if (unknown) {
+      // Some section could not be inspected, assume every fire might be in use.
+      FireClientManager.getFires().forEach(FireClient::markUsed);
+    }
+  }
+
+  /**
+   * Marks as in use the {@link FireClient} of the given block state, if it is a fire typed block.<br />
+   * Any block can be the source block of a fire, so this is not limited to custom fire source blocks.
+   *
+   * @param state block state.
+   * @return always {@code false}.
+   */
+  private static boolean markUsed(BlockState state) {
+    if (state.getBlock() instanceof FireTyped typed) {
+      FireClient fire = FireClientManager.getFire(typed.getFireType());
+      if (fire != null) {
+        fire.markUsed();
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Resolves the {@link FireClient} owning each tracked sprite ticker.<br />
+   * Sprites of vanilla fires are left to always animate, since vanilla blocks use them too.
+   */
+  private static void resolveOwners() {
+    Map<ResourceLocation, FireClient> textures = new HashMap<>();
+    for (FireClient fire : FireClientManager.getFires()) {
+      if (!ResourceLocation.DEFAULT_NAMESPACE.equals(fire.getFireType().getNamespace())) {
+        textures.put(fire.getMaterial0().texture(), fire);
+        textures.put(fire.getMaterial1().texture(), fire);
+      }
+    }
+    OWNERS.clear();
+    for (Reference2ObjectMap.Entry<TextureAtlasSprite.Ticker, ResourceLocation> entry : TICKERS.reference2ObjectEntrySet()) {
+      FireClient fire = textures.get(entry.getValue());
+      if (fire != null) {
+        OWNERS.put(entry.getKey(), fire);
+      }
+    }
+    generation = FireClientManager.getGeneration();
+  }
+}
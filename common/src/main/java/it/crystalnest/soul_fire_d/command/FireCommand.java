@@ -0,0 +1,152 @@
+package it.crystalnest.soul_fire_d.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import it.crystalnest.soul_fire_d.Constants;
+import it.crystalnest.soul_fire_d.api.FireIndex;
+import it.crystalnest.soul_fire_d.api.FireManager;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.commands.arguments.ResourceLocationArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Command to count, list and extinguish fire source blocks by fire type using the {@link FireIndex}.
+ */
+public final class FireCommand {
+  /**
+   * Name of the radius argument.
+   */
+  private static final String RADIUS = "radius";
+
+  /**
+   * Name of the fire type argument.
+   */
+  private static final String FIRE_TYPE = "fire_type";
+
+  /**
+   * Maximum radius accepted by the command.
+   */
+  private static final int MAX_RADIUS = 256;
+
+  /**
+   * Maximum amount of positions printed by the list command.
+   */
+  private static final int MAX_LISTED = 10;
+
+  /**
+   * Suggests all the registered fire types.
+   */
+  private static final SuggestionProvider<CommandSourceStack> FIRE_TYPES = (context, builder) -> SharedSuggestionProvider.suggestResource(FireManager.getFireTypes(), builder);
+
+  private FireCommand() {}
+
+  /**
+   * Registers the command.
+   *
+   * @param dispatcher command dispatcher.
+   */
+  public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+    dispatcher.register(
+      Commands.literal(Constants.MOD_ID)
+        .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+        .then(
+          Commands.literal("fires")
+            .then(query("count", FireCommand::count))
+            .then(query("list", FireCommand::list))
+            .then(query("extinguish", FireCommand::extinguish))
+        )
+    );
+  }
+
+  /**
+   * Builds a query subcommand, taking a radius and optionally a fire type.
+   *
+   * @param name subcommand name.
+   * @param query query to run.
+   * @return query subcommand.
+   */
+  private static LiteralArgumentBuilder<CommandSourceStack> query(String name, Query query) {
+    return Commands.literal(name).then(
+      Commands.argument(RADIUS, IntegerArgumentType.integer(1, MAX_RADIUS))
+        .executes(context -> query.run(context.getSource(), IntegerArgumentType.getInteger(context, RADIUS), null))
+        .then(
+          Commands.argument(FIRE_TYPE, ResourceLocationArgument.id())
+            .suggests(FIRE_TYPES)
+            .executes(context -> query.run(context.getSource(), IntegerArgumentType.getInteger(context, RADIUS), ResourceLocationArgument.getId(context, FIRE_TYPE)))
+        )
+    );
+  }
+
+  /**
+   * Counts the fire source blocks around the command source.
+   *
+   * @param source command source.
+   * @param radius radius.
+   * @param fireType fire type, {@code null} for all fire types.
+   * @return amount of fire source blocks found.
+   */
+  private static int count(CommandSourceStack source, int radius, @Nullable ResourceLocation fireType) {
+    int count = FireIndex.count(source.getLevel(), BlockPos.containing(source.getPosition()), radius, fireType);
+    source.sendSuccess(() -> Component.translatable("commands." + Constants.MOD_ID + ".fires.count", count, radius), false);
+    return count;
+  }
+
+  /**
+   * Lists the fire source blocks around the command source.
+   *
+   * @param source command source.
+   * @param radius radius.
+   * @param fireType fire type, {@code null} for all fire types.
+   * @return amount of fire source blocks found.
+   */
+  private static int list(CommandSourceStack source, int radius, @Nullable ResourceLocation fireType) {
+    List<BlockPos> positions = FireIndex.list(source.getLevel(), BlockPos.containing(source.getPosition()), radius, fireType);
+    source.sendSuccess(() -> Component.translatable("commands." + Constants.MOD_ID + ".fires.list", positions.size(), radius), false);
+    for (BlockPos pos : positions.subList(0, Math.min(positions.size(), MAX_LISTED))) {
+      source.sendSuccess(() -> Component.translatable("chat.coordinates", pos.getX(), pos.getY(), pos.getZ()), false);
+    }
+    if (positions.size() > MAX_LISTED) {
+      source.sendSuccess(() -> Component.translatable("commands." + Constants.MOD_ID + ".fires.list.more", positions.size() - MAX_LISTED), false);
+    }
+    return positions.size();
+  }
+
+  /**
+   * Extinguishes the fire source blocks around the command source.
+   *
+   * @param source command source.
+   * @param radius radius.
+   * @param fireType fire type, {@code null} for all fire types.
+   * @return amount of fire source blocks removed.
+   */
+  private static int extinguish(CommandSourceStack source, int radius, @Nullable ResourceLocation fireType) {
+    int count = FireIndex.extinguish(source.getLevel(), BlockPos.containing(source.getPosition()), radius, fireType);
+    source.sendSuccess(() -> Component.translatable("commands." + Constants.MOD_ID + ".fires.extinguish", count, radius), true);
+    return count;
+  }
+
+  /**
+   * Query on the {@link FireIndex}.
+   */
+  @FunctionalInterface
+  private interface Query {
+    /**
+     * Runs the query.
+     *
+     * @param source command source.
+     * @param radius radius.
+     * @param fireType fire type, {@code null} for all fire types.
+     * @return command result.
+     */
+    int run(CommandSourceStack source, int radius, @Nullable ResourceLocation fireType);
+  }
+}
@@ -0,0 +1,4 @@
+@ApiStatus.Internal
+package it.crystalnest.soul_fire_d.command;
+
+import org.jetbrains.annotations.ApiStatus;
@@ -45,6 +45,11 @@ public abstract class FireResourceReloadListener extends SimpleJsonResourceReloa
    */
   private static final String CAMPFIRE_FIELD_NAME = "campfire";
 
+  /**
+   * JSON field name for a Fire's particle emission profile.
+   */
+  private static final String EMISSION_FIELD_NAME = "emission";
+
   protected FireResourceReloadListener() {
     super(new Gson(), "fires");
   }
@@ -128,6 +133,22 @@ public abstract class FireResourceReloadListener extends SimpleJsonResourceReloa
     }
   }
 
+  /**
+   * Parses a DDFire particle emission profile, using the default values for missing fields.
+   *
+   * @param identifier identifier of the DDFire.
+   * @param data {@link JsonObject} with the emission profile.
+   * @return the parsed {@link Fire.Emission}.
+   */
+  private static Fire.Emission parseEmission(String identifier, JsonObject data) {
+    return new Fire.Emission(
+      parse(identifier, "rate", data, JsonElement::getAsFloat, Fire.Emission.DEFAULT.rate()),
+      parse(identifier, "burst", data, JsonElement::getAsInt, Fire.Emission.DEFAULT.burst()),
+      parse(identifier, "smoke", data, JsonElement::getAsBoolean, Fire.Emission.DEFAULT.smoke()),
+      parse(identifier, "maxEmittersPerChunk", data, JsonElement::getAsInt, Fire.Emission.DEFAULT.maxEmittersPerChunk())
+    );
+  }
+
   /**
    * Unregisters all DDFires.
    */
@@ -183,6 +204,7 @@ public abstract class FireResourceReloadListener extends SimpleJsonResourceReloa
   private void registerFire(JsonObject jsonFire, String mod, String jsonIdentifier) {
     ResourceLocation fireType = ResourceLocation.fromNamespaceAndPath(mod, parse(jsonIdentifier, "fire", jsonFire, JsonElement::getAsString));
     Fire.Builder builder = FireManager.fireBuilder(fireType)
+      .setLight(parse(fireType.toString(), "light", jsonFire, JsonElement::getAsInt, Fire.Builder.DEFAULT_LIGHT))
       .setDamage(parse(fireType.toString(), "damage", jsonFire, JsonElement::getAsFloat, Fire.Builder.DEFAULT_DAMAGE))
       .setInvertHealAndHarm(parse(fireType.toString(), "invertHealAndHarm", jsonFire, JsonElement::getAsBoolean, Fire.Builder.DEFAULT_INVERT_HEAL_AND_HARM))
       .removeComponent(Fire.Component.CAMPFIRE_ITEM)
@@ -192,6 +214,10 @@ public abstract class FireResourceReloadListener extends SimpleJsonResourceReloa
       .removeComponent(Fire.Component.TORCH_ITEM)
       .removeComponent(Fire.Component.WALL_TORCH_BLOCK)
       .removeComponent(Fire.Component.FLAME_PARTICLE);
+    JsonObject emission = parse(fireType.toString(), EMISSION_FIELD_NAME, jsonFire, JsonElement::getAsJsonObject, null);
+    if (emission != null) {
+      builder.setEmission(parseEmission(fireType.toString(), emission));
+    }
     if (jsonFire.get(SOURCE_FIELD_NAME) != null && jsonFire.get(SOURCE_FIELD_NAME).isJsonNull()) {
       builder.removeComponent(Fire.Component.SOURCE_BLOCK);
     } else {
@@ -0,0 +1,17 @@
+package it.crystalnest.soul_fire_d.handler;
+
+import it.crystalnest.soul_fire_d.api.client.FireClientManager;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Resource (resourcepack) reload listener for refreshing the cached fire sprites, client side only.<br />
+ * Must run after the block atlas has been reloaded.
+ */
+public class FireSpriteReloadListener implements ResourceManagerReloadListener {
+  @Override
+  public void onResourceManagerReload(@NotNull ResourceManager resourceManager) {
+    FireClientManager.reloadSprites();
+  }
+}
@@ -58,7 +58,7 @@ public abstract class BaseFireBlockMixin implements FireTypeChanger {
 
   /**
    * Redirects the call to {@link Entity#hurt(DamageSource, float)} inside the method {@link BaseFireBlock#entityInside(BlockState, Level, BlockPos, Entity)}.<br />
-   * Hurts the entity with the correct fire damage and {@link DamageSource}.
+   * Hurts the entity with the correct fire damage and {@link DamageSource}, at most once per tick for each fire type.
    *
    * @param instance {@link Entity} invoking (owning) the redirected method.
    * @param damageSource original {@link DamageSource} (normal fire).
@@ -67,6 +67,6 @@ public abstract class BaseFireBlockMixin implements FireTypeChanger {
    */
   @Redirect(method = "entityInside", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;hurt(Lnet/minecraft/world/damagesource/DamageSource;F)Z"))
   private boolean redirectHurt(Entity instance, DamageSource damageSource, float damage) {
-    return FireManager.affect(instance, getFireType(), Fire::getInFire);
+    return FireManager.affectOnContact(instance, getFireType(), FireManager.ContactKind.IN_FIRE);
   }
 }
@@ -5,8 +5,10 @@ import it.crystalnest.soul_fire_d.api.FireManager;
 import it.crystalnest.soul_fire_d.api.type.FireTypeChanger;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.DamageTypeTags;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.CampfireBlock;
 import net.minecraft.world.level.block.state.BlockState;
@@ -38,7 +40,7 @@ public abstract class CampfireBlockMixin implements FireTypeChanger {
 
   /**
    * Redirects the call to {@link Entity#hurt(DamageSource, float)} inside the method {@link CampfireBlock#entityInside(BlockState, Level, BlockPos, Entity)}.<br />
-   * Hurts the entity with the correct fire damage and {@link DamageSource}.
+   * Hurts the entity with the correct fire damage and {@link DamageSource}, at most once per tick for each fire type.
    *
    * @param instance owner of the redirected method.
    * @param damageSource original {@link DamageSource} (normal fire).
@@ -47,6 +49,33 @@ public abstract class CampfireBlockMixin implements FireTypeChanger {
    */
   @Redirect(method = "entityInside", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;hurt(Lnet/minecraft/world/damagesource/DamageSource;F)Z"))
   private boolean redirectHurt(Entity instance, DamageSource damageSource, float damage) {
-    return FireManager.affect(instance, getFireType(), Fire::getOnCampfire);
+    if (instance instanceof LivingEntity livingEntity && isShielded(livingEntity, getFireType())) {
+      return false;
+    }
+    return FireManager.affectOnContact(instance, getFireType(), FireManager.ContactKind.ON_CAMPFIRE);
+  }
+
+  /**
+   * Returns whether the given entity would shrug off the campfire damage because of its hurt invulnerability window.<br />
+   * Follows the cooldown check in {@link LivingEntity#hurt(DamageSource, float)} so that no work is done for damage that cannot land, while heals still go through.<br />
+   * Fires with a custom Campfire {@link DamageSource} getter have their source built to honor {@link DamageTypeTags#BYPASSES_COOLDOWN}.
+   *
+   * @param entity entity touching the campfire.
+   * @param fireType fire type.
+   * @return whether the campfire damage cannot apply this tick.
+   */
+  @Unique
+  private static boolean isShielded(LivingEntity entity, ResourceLocation fireType) {
+    if (entity.invulnerableTime <= 10) {
+      return false;
+    }
+    float damage = FireManager.getProperty(fireType, Fire::getDamage);
+    boolean inverted = entity.isInvertedHealAndHarm() && FireManager.getProperty(fireType, Fire::invertHealAndHarm);
+    float hurt = damage > 0 && !inverted ? damage : damage < 0 && inverted ? -damage : 0;
+    if (hurt <= 0 || hurt > entity.lastHurt) {
+      return false;
+    }
+    Fire fire = FireManager.getFire(fireType);
+    return fire.hasDefaultOnCampfire() || !fire.getOnCampfire(entity).is(DamageTypeTags.BYPASSES_COOLDOWN);
   }
 }
@@ -12,6 +12,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -33,6 +34,20 @@ public abstract class EntityMixin implements FireTypeSynched {
   @Unique
   private static final EntityDataAccessor<String> DATA_FIRE_TYPE = SynchedEntityData.defineId(Entity.class, EntityDataSerializers.STRING);
 
+  /**
+   * Synched fire type string {@link #parsedFireType} was last parsed from.
+   */
+  @Unique
+  @Nullable
+  private String fireTypeRaw = null;
+
+  /**
+   * Fire type parsed from {@link #fireTypeRaw}.
+   */
+  @Unique
+  @Nullable
+  private ResourceLocation parsedFireType = null;
+
   /**
    * Shadowed {@link Entity#entityData}.
    */
@@ -64,7 +79,13 @@ public abstract class EntityMixin implements FireTypeSynched {
 
   @Override
   public ResourceLocation getFireType() {
-    return ResourceLocation.tryParse(entityData.get(DATA_FIRE_TYPE));
+    String raw = entityData.get(DATA_FIRE_TYPE);
+    // Synched data holds a new string instance on each change, so an identity check is enough to skip parsing again.
+    if (raw != fireTypeRaw) {
+      fireTypeRaw = raw;
+      parsedFireType = ResourceLocation.tryParse(raw);
+    }
+    return parsedFireType;
   }
 
   @Override
@@ -0,0 +1,69 @@
+package it.crystalnest.soul_fire_d.mixin;
+
+import it.crystalnest.soul_fire_d.api.FireIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Injects into {@link LevelChunk} to keep the {@link FireIndex} up to date.
+ */
+@Mixin(LevelChunk.class)
+public abstract class LevelChunkMixin {
+  /**
+   * Shadowed {@link LevelChunk#level}.
+   */
+  @Final
+  @Shadow
+  Level level;
+
+  /**
+   * Injects before returning in the method {@link LevelChunk#setBlockState(BlockPos, BlockState, boolean)}.<br />
+   * Updates the {@link FireIndex} when a fire source block is placed or removed.
+   *
+   * @param pos position.
+   * @param state new block state.
+   * @param isMoving whether the block is being moved.
+   * @param cir {@link CallbackInfoReturnable}.
+   */
+  @Inject(method = "setBlockState", at = @At(value = "RETURN"))
+  private void onSetBlockState(BlockPos pos, BlockState state, boolean isMoving, CallbackInfoReturnable<BlockState> cir) {
+    BlockState previous = cir.getReturnValue();
+    if (previous != null && !level.isClientSide) {
+      FireIndex.update(level, pos, previous, state);
+    }
+  }
+
+  /**
+   * Injects at the end of the method {@link LevelChunk#registerTickContainerInLevel(ServerLevel)}.<br />
+   * Indexes the fire source blocks of the chunk being loaded.
+   *
+   * @param serverLevel level the chunk is loaded in.
+   * @param ci {@link CallbackInfo}.
+   */
+  @Inject(method = "registerTickContainerInLevel", at = @At(value = "TAIL"))
+  private void onRegisterTickContainerInLevel(ServerLevel serverLevel, CallbackInfo ci) {
+    FireIndex.load(serverLevel, (LevelChunk) (Object) this);
+  }
+
+  /**
+   * Injects at the end of the method {@link LevelChunk#unregisterTickContainerFromLevel(ServerLevel)}.<br />
+   * Drops the index of the chunk being unloaded.
+   *
+   * @param serverLevel level the chunk is unloaded from.
+   * @param ci {@link CallbackInfo}.
+   */
+  @Inject(method = "unregisterTickContainerFromLevel", at = @At(value = "TAIL"))
+  private void onUnregisterTickContainerFromLevel(ServerLevel serverLevel, CallbackInfo ci) {
+    FireIndex.unload(serverLevel, (LevelChunk) (Object) this);
+  }
+}
@@ -0,0 +1,62 @@
+package it.crystalnest.soul_fire_d.mixin;
+
+import it.crystalnest.soul_fire_d.api.FireLight;
+import it.crystalnest.soul_fire_d.api.FireManager;
+import it.crystalnest.soul_fire_d.api.block.CampfireTickScheduler;
+import net.minecraft.server.level.ServerLevel;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Injects into {@link ServerLevel} to tick the {@link CampfireTickScheduler}, to keep the {@link FireLight} up to date and to reset the fire block contacts of {@link FireManager}.
+ */
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelMixin {
+  /**
+   * {@link FireManager#getGeneration() Fire generation} this level was last relit for by the {@link FireLight}.
+   */
+  @Unique
+  private int fireLightGeneration = -1;
+
+  /**
+   * Injects at the start of the method {@link ServerLevel#tick(BooleanSupplier)}.<br />
+   * Brings fire light emissions up to date.
+   *
+   * @param hasTimeLeft whether the server has time left in the tick.
+   * @param ci {@link CallbackInfo}.
+   */
+  @Inject(method = "tick", at = @At(value = "HEAD"))
+  private void onTickHead(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+    ServerLevel level = (ServerLevel) (Object) this;
+    fireLightGeneration = FireLight.update(level, fireLightGeneration, () -> FireLight.getLoadedChunks(level));
+  }
+
+  /**
+   * Injects at the end of the method {@link ServerLevel#tick(BooleanSupplier)}.<br />
+   * Ticks the shared campfire scheduler and forgets the fire block contacts of this tick.
+   *
+   * @param hasTimeLeft whether the server has time left in the tick.
+   * @param ci {@link CallbackInfo}.
+   */
+  @Inject(method = "tick", at = @At(value = "TAIL"))
+  private void onTickTail(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+    CampfireTickScheduler.tick((ServerLevel) (Object) this);
+    FireManager.clearContacts();
+  }
+
+  /**
+   * Injects at the start of the method {@link ServerLevel#close()}.<br />
+   * Drops the shared campfire scheduler of this level, so the level can be garbage collected.
+   *
+   * @param ci {@link CallbackInfo}.
+   */
+  @Inject(method = "close", at = @At(value = "HEAD"))
+  private void onClose(CallbackInfo ci) {
+    CampfireTickScheduler.unload((ServerLevel) (Object) this);
+  }
+}
@@ -0,0 +1,66 @@
+package it.crystalnest.soul_fire_d.mixin.client;
+
+import it.crystalnest.soul_fire_d.api.FireLight;
+import it.crystalnest.soul_fire_d.api.FireManager;
+import it.crystalnest.soul_fire_d.api.client.FireSpriteAnimator;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Injects into {@link ClientLevel} to keep the {@link FireLight} and the {@link FireSpriteAnimator} up to date.
+ */
+@Mixin(ClientLevel.class)
+public abstract class ClientLevelMixin {
+  /**
+   * {@link FireManager#getGeneration() Fire generation} this level was last relit for by the {@link FireLight}.
+   */
+  @Unique
+  private int fireLightGeneration = -1;
+
+  /**
+   * Injects at the start of the method {@link ClientLevel#tick(BooleanSupplier)}.<br />
+   * Brings fire light emissions up to date, relighting the chunks around the camera if needed, and keeps track of the fire sprites in use.
+   *
+   * @param hasTimeLeft whether the client has time left in the tick.
+   * @param ci {@link CallbackInfo}.
+   */
+  @Inject(method = "tick", at = @At(value = "HEAD"))
+  private void onTick(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+    fireLightGeneration = FireLight.update((ClientLevel) (Object) this, fireLightGeneration, this::getLoadedChunks);
+    FireSpriteAnimator.tick(this::getLoadedChunks);
+  }
+
+  /**
+   * Returns the chunks loaded within render distance from the camera.
+   *
+   * @return the loaded chunks.
+   */
+  @Unique
+  private Iterable<LevelChunk> getLoadedChunks() {
+    ClientLevel level = (ClientLevel) (Object) this;
+    Minecraft minecraft = Minecraft.getInstance();
+    ChunkPos center = new ChunkPos(minecraft.gameRenderer.getMainCamera().getBlockPosition());
+    int radius = minecraft.options.getEffectiveRenderDistance();
+    List<LevelChunk> chunks = new ArrayList<>();
+    for (int x = center.x - radius; x <= center.x + radius; x++) {
+      for (int z = center.z - radius; z <= center.z + radius; z++) {
+        LevelChunk chunk = level.getChunkSource().getChunk(x, z, false);
+        if (chunk != null) {
+          chunks.add(chunk);
+        }
+      }
+    }
+    return chunks;
+  }
+}
@@ -0,0 +1,47 @@
+package it.crystalnest.soul_fire_d.mixin.client;
+
+import it.crystalnest.soul_fire_d.api.client.FireClientManager;
+import it.crystalnest.soul_fire_d.api.client.FireClientTyped;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Injects into {@link Entity} to cache the {@link FireClientManager} id of its fire type.
+ */
+@Mixin(Entity.class)
+public abstract class EntityMixin implements FireClientTyped {
+  /**
+   * Fire type {@link #fireClientId} was resolved for.
+   */
+  @Unique
+  @Nullable
+  private ResourceLocation fireClientType = null;
+
+  /**
+   * {@link FireClientManager} id of {@link #fireClientType}.
+   */
+  @Unique
+  private int fireClientId = -1;
+
+  /**
+   * {@link FireClientManager#getGeneration() Generation} {@link #fireClientId} was resolved at.
+   */
+  @Unique
+  private int fireClientGeneration = -1;
+
+  @Override
+  public int getFireClientId() {
+    ResourceLocation fireType = getFireType();
+    // The parsed fire type instance only changes when its synched value does.
+    // Ids are never reassigned, so a resolved id only goes stale if the fire type changes.
+    if (fireType != fireClientType || fireClientId < 0 && fireClientGeneration != FireClientManager.getGeneration()) {
+      fireClientType = fireType;
+      fireClientId = FireClientManager.getId(fireType);
+      fireClientGeneration = FireClientManager.getGeneration();
+    }
+    return fireClientId;
+  }
+}
@@ -1,43 +1,85 @@
 package it.crystalnest.soul_fire_d.mixin.client;
 
 import com.mojang.blaze3d.vertex.PoseStack;
-import it.crystalnest.soul_fire_d.api.FireManager;
+import it.crystalnest.soul_fire_d.api.client.FireClient;
 import it.crystalnest.soul_fire_d.api.client.FireClientManager;
-import it.crystalnest.soul_fire_d.api.type.FireTyped;
+import it.crystalnest.soul_fire_d.api.client.FireClientSettings;
+import it.crystalnest.soul_fire_d.api.client.FireClientTyped;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.resources.model.Material;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Quaternionf;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
- * Injects into {@link EntityRenderDispatcher} to alter Fire behavior for consistency.
+ * Injects into {@link EntityRenderDispatcher} to alter Fire behavior for consistency.<br />
+ * Custom flame sprites live in the block atlas like the vanilla ones, so every flame overlay keeps being written to the same shared block sheet buffer.
  */
 @Mixin(EntityRenderDispatcher.class)
 public abstract class EntityRenderDispatcherMixin {
   /**
-   * Modifies the assignment value returned by the first call to {@link Material#sprite()} in the method {@link EntityRenderDispatcher#renderFlame(PoseStack, MultiBufferSource, Entity, Quaternionf)}.<br />
-   * Assigns the correct sprite for the fire type the entity is burning from.
+   * {@link FireClient} of the entity whose flame is being rendered.<br />
+   * Resolved once at the start of each {@link EntityRenderDispatcher#renderFlame(PoseStack, MultiBufferSource, Entity, Quaternionf)} call, {@code null} when vanilla sprites should be used.
+   */
+  @Unique
+  @Nullable
+  private FireClient flameFire = null;
+
+  /**
+   * Shadowed {@link EntityRenderDispatcher#distanceToSqr(Entity)}.
+   *
+   * @param entity entity.
+   * @return squared distance between the camera and the entity.
+   */
+  @Shadow
+  public abstract double distanceToSqr(Entity entity);
+
+  /**
+   * Injects at the start of the method {@link EntityRenderDispatcher#renderFlame(PoseStack, MultiBufferSource, Entity, Quaternionf)}.<br />
+   * Resolves the {@link FireClient} for the fire type the entity is burning from, so both sprites can reuse it.<br />
+   * Beyond the {@link FireClientSettings#getOverlayDistance() overlay distance} the lookup is skipped, and the overlay is either rendered as vanilla or not rendered at all.
    *
-   * @param value original sprite returned by the modified method.
    * @param poseStack matrices.
    * @param multiBufferSource buffer.
    * @param entity {@link Entity} that's burning.
+   * @param matrix camera orientation.
+   * @param ci {@link CallbackInfo}.
+   */
+  @Inject(method = "renderFlame", at = @At(value = "HEAD"), cancellable = true)
+  private void onRenderFlame(PoseStack poseStack, MultiBufferSource multiBufferSource, Entity entity, Quaternionf matrix, CallbackInfo ci) {
+    double distance = FireClientSettings.getOverlayDistance();
+    if (distanceToSqr(entity) > distance * distance) {
+      flameFire = null;
+      if (FireClientSettings.getOverlayFallback() == FireClientSettings.OverlayFallback.SKIP) {
+        ci.cancel();
+      }
+    } else {
+      flameFire = FireClientManager.getFire(((FireClientTyped) entity).getFireClientId());
+      if (flameFire != null) {
+        flameFire.markUsed();
+      }
+    }
+  }
+
+  /**
+   * Modifies the assignment value returned by the first call to {@link Material#sprite()} in the method {@link EntityRenderDispatcher#renderFlame(PoseStack, MultiBufferSource, Entity, Quaternionf)}.<br />
+   * Assigns the correct sprite for the fire type the entity is burning from.
+   *
+   * @param value original sprite returned by the modified method.
    * @return {@link TextureAtlasSprite} to assign.
    */
-  @SuppressWarnings("InvalidInjectorMethodSignature")
   @ModifyVariable(method = "renderFlame", at = @At(value = "INVOKE_ASSIGN", target = "Lnet/minecraft/client/resources/model/Material;sprite()Lnet/minecraft/client/renderer/texture/TextureAtlasSprite;", ordinal = 0), ordinal = 0)
-  private TextureAtlasSprite onRenderFlameAtSprite0(TextureAtlasSprite value, PoseStack poseStack, MultiBufferSource multiBufferSource, Entity entity, Quaternionf matrix) {
-    ResourceLocation fireType = ((FireTyped) entity).getFireType();
-    if (FireManager.isRegisteredType(fireType)) {
-      return FireClientManager.getSprite0(fireType);
-    }
-    return value;
+  private TextureAtlasSprite onRenderFlameAtSprite0(TextureAtlasSprite value) {
+    return flameFire != null ? flameFire.getSprite0() : value;
   }
 
   /**
@@ -45,17 +87,10 @@ public abstract class EntityRenderDispatcherMixin {
    * Assigns the correct sprite for the fire type the entity is burning from.
    *
    * @param value original sprite returned by the modified method.
-   * @param poseStack matrices.
-   * @param multiBufferSource buffer.
-   * @param entity {@link Entity} that's burning.
    * @return {@link TextureAtlasSprite} to assign.
    */
   @ModifyVariable(method = "renderFlame", at = @At(value = "INVOKE_ASSIGN", target = "Lnet/minecraft/client/resources/model/Material;sprite()Lnet/minecraft/client/renderer/texture/TextureAtlasSprite;", ordinal = 1), ordinal = 1)
-  private TextureAtlasSprite onRenderFlameAtSprite1(TextureAtlasSprite value, PoseStack poseStack, MultiBufferSource multiBufferSource, Entity entity, Quaternionf matrix) {
-    ResourceLocation fireType = ((FireTyped) entity).getFireType();
-    if (FireManager.isRegisteredType(fireType)) {
-      return FireClientManager.getSprite1(fireType);
-    }
-    return value;
+  private TextureAtlasSprite onRenderFlameAtSprite1(TextureAtlasSprite value) {
+    return flameFire != null ? flameFire.getSprite1() : value;
   }
 }
@@ -0,0 +1,28 @@
+package it.crystalnest.soul_fire_d.mixin.client;
+
+import it.crystalnest.soul_fire_d.api.client.CappedFlameParticleProvider;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.particle.ParticleEngine;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Injects into {@link ParticleEngine} to keep the {@link CappedFlameParticleProvider} counts in sync.
+ */
+@Mixin(ParticleEngine.class)
+public abstract class ParticleEngineMixin {
+  /**
+   * Injects at the start of the method {@link ParticleEngine#setLevel(ClientLevel)}.<br />
+   * Forgets the tracked flame particles, since the engine drops all its particles without removing them.
+   *
+   * @param level new client level.
+   * @param ci {@link CallbackInfo}.
+   */
+  @Inject(method = "setLevel", at = @At(value = "HEAD"))
+  private void onSetLevel(@Nullable ClientLevel level, CallbackInfo ci) {
+    CappedFlameParticleProvider.clearAll();
+  }
+}
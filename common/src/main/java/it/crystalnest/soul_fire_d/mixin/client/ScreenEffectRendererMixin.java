@@ -1,7 +1,7 @@
 package it.crystalnest.soul_fire_d.mixin.client;
 
 import com.mojang.blaze3d.vertex.PoseStack;
-import it.crystalnest.soul_fire_d.api.FireManager;
+import it.crystalnest.soul_fire_d.api.client.FireClient;
 import it.crystalnest.soul_fire_d.api.client.FireClientManager;
 import it.crystalnest.soul_fire_d.api.type.FireTyped;
 import net.minecraft.client.Minecraft;
@@ -9,7 +9,9 @@ import net.minecraft.client.renderer.ScreenEffectRenderer;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.resources.model.Material;
 import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
 
@@ -18,9 +20,30 @@ import org.spongepowered.asm.mixin.injection.ModifyVariable;
  */
 @Mixin(ScreenEffectRenderer.class)
 public abstract class ScreenEffectRendererMixin {
+  /**
+   * Fire type of the local player {@link #fire} was resolved for.
+   */
+  @Unique
+  @Nullable
+  private static ResourceLocation fireType = null;
+
+  /**
+   * {@link FireClientManager#getGeneration() Generation} of the registered fires {@link #fire} was resolved at.
+   */
+  @Unique
+  private static int generation = -1;
+
+  /**
+   * {@link FireClient} of the fire type the local player is burning from, {@code null} when the vanilla sprite should be used.
+   */
+  @Unique
+  @Nullable
+  private static FireClient fire = null;
+
   /**
    * Modifies the assignment value returned by {@link Material#sprite()} in the method {@link ScreenEffectRenderer#renderFire(Minecraft, PoseStack)}.<br />
-   * Assigns the correct sprite for the Fire Type the player is burning from.
+   * Assigns the correct sprite for the Fire Type the player is burning from.<br />
+   * The {@link FireClient} is resolved again only when the player's fire type or the registered fires change.
    *
    * @param value original sprite returned by the modified method.
    * @param minecraft Minecraft client.
@@ -30,9 +53,16 @@ public abstract class ScreenEffectRendererMixin {
   @SuppressWarnings("InvalidInjectorMethodSignature")
   @ModifyVariable(method = "renderFire", at = @At(value = "INVOKE_ASSIGN", target = "Lnet/minecraft/client/resources/model/Material;sprite()Lnet/minecraft/client/renderer/texture/TextureAtlasSprite;"))
   private static TextureAtlasSprite onRenderFire(TextureAtlasSprite value, Minecraft minecraft, PoseStack poseStack) {
-    ResourceLocation fireType = minecraft.player != null ? ((FireTyped) minecraft.player).getFireType() : null;
-    if (FireManager.isRegisteredType(fireType)) {
-      return FireClientManager.getSprite1(fireType);
+    ResourceLocation current = minecraft.player != null ? ((FireTyped) minecraft.player).getFireType() : null;
+    // The player's fire type instance only changes when its synched value does.
+    if (current != fireType || generation != FireClientManager.getGeneration()) {
+      fireType = current;
+      generation = FireClientManager.getGeneration();
+      fire = FireClientManager.getFire(current);
+    }
+    if (fire != null) {
+      fire.markUsed();
+      return fire.getSprite1();
     }
     return value;
   }
@@ -0,0 +1,73 @@
+package it.crystalnest.soul_fire_d.mixin.client;
+
+import it.crystalnest.soul_fire_d.api.client.FireSpriteAnimator;
+import net.minecraft.client.renderer.texture.SpriteLoader;
+import net.minecraft.client.renderer.texture.TextureAtlas;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.inventory.InventoryMenu;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Injects into {@link TextureAtlas} to animate custom fire sprites only while they are in use.
+ */
+@Mixin(TextureAtlas.class)
+public abstract class TextureAtlasMixin {
+  /**
+   * Shadowed {@link TextureAtlas#location}.
+   */
+  @Final
+  @Shadow
+  private ResourceLocation location;
+
+  /**
+   * Injects at the start of the method {@link TextureAtlas#upload(SpriteLoader.Preparations)}.<br />
+   * Forgets the sprite tickers of the previous block atlas.
+   *
+   * @param preparations stitched sprites.
+   * @param ci {@link CallbackInfo}.
+   */
+  @Inject(method = "upload", at = @At(value = "HEAD"))
+  private void onUpload(SpriteLoader.Preparations preparations, CallbackInfo ci) {
+    if (InventoryMenu.BLOCK_ATLAS.equals(location)) {
+      FireSpriteAnimator.clear();
+    }
+  }
+
+  /**
+   * Redirects the call to {@link TextureAtlasSprite#createTicker()} inside the method {@link TextureAtlas#upload(SpriteLoader.Preparations)}.<br />
+   * Tracks the tickers of the block atlas animated sprites.
+   *
+   * @param instance sprite.
+   * @return the sprite ticker, {@code null} if the sprite is not animated.
+   */
+  @Nullable
+  @Redirect(method = "upload", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/renderer/texture/TextureAtlasSprite;createTicker()Lnet/minecraft/client/renderer/texture/TextureAtlasSprite$Ticker;"))
+  private TextureAtlasSprite.Ticker redirectCreateTicker(TextureAtlasSprite instance) {
+    TextureAtlasSprite.Ticker ticker = instance.createTicker();
+    if (ticker != null && InventoryMenu.BLOCK_ATLAS.equals(location)) {
+      FireSpriteAnimator.track(instance, ticker);
+    }
+    return ticker;
+  }
+
+  /**
+   * Redirects the call to {@link TextureAtlasSprite.Ticker#tickAndUpload()} inside the method {@link TextureAtlas#cycleAnimationFrames()}.<br />
+   * Skips the animation of custom fire sprites that are not in use.
+   *
+   * @param instance sprite ticker.
+   */
+  @Redirect(method = "cycleAnimationFrames", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/renderer/texture/TextureAtlasSprite$Ticker;tickAndUpload()V"))
+  private void redirectTickAndUpload(TextureAtlasSprite.Ticker instance) {
+    if (FireSpriteAnimator.shouldAnimate(instance)) {
+      instance.tickAndUpload();
+    }
+  }
+}
@@ -2,11 +2,12 @@ package it.crystalnest.soul_fire_d;
 
 import it.crystalnest.soul_fire_d.api.Fire;
 import it.crystalnest.soul_fire_d.api.FireManager;
-import it.crystalnest.soul_fire_d.api.block.CustomCampfireBlock;
-import it.crystalnest.soul_fire_d.api.block.CustomFireBlock;
-import it.crystalnest.soul_fire_d.api.block.CustomTorchBlock;
-import it.crystalnest.soul_fire_d.api.block.CustomWallTorchBlock;
+import it.crystalnest.soul_fire_d.api.block.FireParticleEmission;
+import it.crystalnest.soul_fire_d.api.client.CappedFlameParticleProvider;
+import it.crystalnest.soul_fire_d.api.client.CustomCampfireRenderer;
 import it.crystalnest.soul_fire_d.api.client.FireClientManager;
+import it.crystalnest.soul_fire_d.api.client.FireParticleLod;
+import it.crystalnest.soul_fire_d.handler.FabricFireSpriteReloadListener;
 import it.crystalnest.soul_fire_d.network.handler.FirePacketHandler;
 import it.crystalnest.soul_fire_d.network.packet.RegisterFirePacket;
 import it.crystalnest.soul_fire_d.network.packet.UnregisterFirePacket;
@@ -14,10 +15,9 @@ import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.blockrenderlayer.v1.BlockRenderLayerMap;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.client.particle.v1.ParticleFactoryRegistry;
-import net.minecraft.client.particle.FlameParticle;
-import net.minecraft.client.renderer.RenderType;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderers;
-import net.minecraft.client.renderer.blockentity.CampfireRenderer;
+import net.minecraft.server.packs.PackType;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -28,12 +28,12 @@ public final class ClientModLoader implements ClientModInitializer {
   @Override
   public void onInitializeClient() {
     FireClientManager.registerFires(FireManager.getFires());
-    BlockEntityRenderers.register(FireManager.CUSTOM_CAMPFIRE_ENTITY_TYPE.get(), CampfireRenderer::new);
-    FireManager.getComponentList(Fire.Component.CAMPFIRE_BLOCK).stream().filter(CustomCampfireBlock.class::isInstance).forEach(campfire -> BlockRenderLayerMap.INSTANCE.putBlock(campfire, RenderType.cutout()));
-    FireManager.getComponentList(Fire.Component.SOURCE_BLOCK).stream().filter(CustomFireBlock.class::isInstance).forEach(source -> BlockRenderLayerMap.INSTANCE.putBlock(source, RenderType.cutout()));
-    FireManager.getComponentList(Fire.Component.TORCH_BLOCK).stream().filter(CustomTorchBlock.class::isInstance).forEach(torch -> BlockRenderLayerMap.INSTANCE.putBlock(torch, RenderType.cutout()));
-    FireManager.getComponentList(Fire.Component.WALL_TORCH_BLOCK).stream().filter(CustomWallTorchBlock.class::isInstance).forEach(torch -> BlockRenderLayerMap.INSTANCE.putBlock(torch, RenderType.cutout()));
-    FireManager.getComponentList(Fire.Component.FLAME_PARTICLE).forEach(flame -> ParticleFactoryRegistry.getInstance().register(flame, FlameParticle.Provider::new));
+    FireClientManager.bindFlameParticles();
+    FireParticleEmission.setFilter(FireParticleLod::shouldEmit);
+    BlockEntityRenderers.register(FireManager.CUSTOM_CAMPFIRE_ENTITY_TYPE.get(), CustomCampfireRenderer::new);
+    FireClientManager.registerRenderLayers(BlockRenderLayerMap.INSTANCE::putBlock);
+    FireManager.getComponentList(Fire.Component.FLAME_PARTICLE).forEach(flame -> ParticleFactoryRegistry.getInstance().register(flame, CappedFlameParticleProvider::new));
+    ResourceManagerHelper.get(PackType.CLIENT_RESOURCES).registerReloadListener(new FabricFireSpriteReloadListener());
     ClientPlayNetworking.registerGlobalReceiver(RegisterFirePacket.TYPE, (packet, context) -> FirePacketHandler.handle(packet));
     ClientPlayNetworking.registerGlobalReceiver(UnregisterFirePacket.TYPE, (packet, context) -> FirePacketHandler.handle(packet));
   }
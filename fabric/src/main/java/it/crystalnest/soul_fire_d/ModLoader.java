@@ -1,8 +1,10 @@
 package it.crystalnest.soul_fire_d;
 
+import it.crystalnest.soul_fire_d.command.FireCommand;
 import it.crystalnest.soul_fire_d.handler.FabricFireResourceReloadListener;
 import it.crystalnest.soul_fire_d.handler.LootTableEventsHandler;
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.loot.v3.LootTableEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
@@ -20,5 +22,6 @@ public final class ModLoader implements ModInitializer {
     LootTableEvents.MODIFY.register(LootTableEventsHandler::handle);
     ServerLifecycleEvents.SYNC_DATA_PACK_CONTENTS.register(FabricFireResourceReloadListener::handle);
     ResourceManagerHelper.get(PackType.SERVER_DATA).registerReloadListener(new FabricFireResourceReloadListener());
+    CommandRegistrationCallback.EVENT.register((dispatcher, context, selection) -> FireCommand.register(dispatcher));
   }
 }
@@ -0,0 +1,24 @@
+package it.crystalnest.soul_fire_d.handler;
+
+import it.crystalnest.soul_fire_d.Constants;
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
+import net.fabricmc.fabric.api.resource.ResourceReloadListenerKeys;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Resource (resourcepack) reload listener for refreshing the cached fire sprites.
+ */
+public final class FabricFireSpriteReloadListener extends FireSpriteReloadListener implements IdentifiableResourceReloadListener {
+  @Override
+  public ResourceLocation getFabricId() {
+    return ResourceLocation.fromNamespaceAndPath(Constants.MOD_ID, "fire_sprites");
+  }
+
+  @Override
+  public Collection<ResourceLocation> getFabricDependencies() {
+    return List.of(ResourceReloadListenerKeys.MODELS);
+  }
+}
@@ -3,20 +3,18 @@ package it.crystalnest.soul_fire_d.handler;
 import it.crystalnest.soul_fire_d.Constants;
 import it.crystalnest.soul_fire_d.api.Fire;
 import it.crystalnest.soul_fire_d.api.FireManager;
-import it.crystalnest.soul_fire_d.api.block.CustomCampfireBlock;
-import it.crystalnest.soul_fire_d.api.block.CustomFireBlock;
-import it.crystalnest.soul_fire_d.api.block.CustomTorchBlock;
-import it.crystalnest.soul_fire_d.api.block.CustomWallTorchBlock;
+import it.crystalnest.soul_fire_d.api.block.FireParticleEmission;
+import it.crystalnest.soul_fire_d.api.client.CappedFlameParticleProvider;
+import it.crystalnest.soul_fire_d.api.client.CustomCampfireRenderer;
 import it.crystalnest.soul_fire_d.api.client.FireClientManager;
-import net.minecraft.client.particle.FlameParticle;
+import it.crystalnest.soul_fire_d.api.client.FireParticleLod;
 import net.minecraft.client.renderer.ItemBlockRenderTypes;
-import net.minecraft.client.renderer.RenderType;
-import net.minecraft.client.renderer.blockentity.CampfireRenderer;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.neoforge.client.event.EntityRenderersEvent;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
 import net.neoforged.neoforge.client.event.RegisterParticleProvidersEvent;
 
 /**
@@ -35,10 +33,9 @@ public final class FMLClientSetupEventHandler {
   @SuppressWarnings("deprecation")
   public static void handle(FMLClientSetupEvent event) {
     FireClientManager.registerFires(FireManager.getFires());
-    FireManager.getComponentList(Fire.Component.CAMPFIRE_BLOCK).stream().filter(CustomCampfireBlock.class::isInstance).forEach(campfire -> ItemBlockRenderTypes.setRenderLayer(campfire, RenderType.cutout()));
-    FireManager.getComponentList(Fire.Component.SOURCE_BLOCK).stream().filter(CustomFireBlock.class::isInstance).forEach(source -> ItemBlockRenderTypes.setRenderLayer(source, RenderType.cutout()));
-    FireManager.getComponentList(Fire.Component.TORCH_BLOCK).stream().filter(CustomTorchBlock.class::isInstance).forEach(torch -> ItemBlockRenderTypes.setRenderLayer(torch, RenderType.cutout()));
-    FireManager.getComponentList(Fire.Component.WALL_TORCH_BLOCK).stream().filter(CustomWallTorchBlock.class::isInstance).forEach(torch -> ItemBlockRenderTypes.setRenderLayer(torch, RenderType.cutout()));
+    FireClientManager.bindFlameParticles();
+    FireParticleEmission.setFilter(FireParticleLod::shouldEmit);
+    FireClientManager.registerRenderLayers(ItemBlockRenderTypes::setRenderLayer);
   }
 
   /**
@@ -48,7 +45,7 @@ public final class FMLClientSetupEventHandler {
    */
   @SubscribeEvent
   public static void registerParticleProviders(RegisterParticleProvidersEvent event) {
-    FireManager.getComponentList(Fire.Component.FLAME_PARTICLE).forEach(flame -> event.registerSpriteSet(flame, FlameParticle.Provider::new));
+    FireManager.getComponentList(Fire.Component.FLAME_PARTICLE).forEach(flame -> event.registerSpriteSet(flame, CappedFlameParticleProvider::new));
   }
 
   /**
@@ -58,6 +55,17 @@ public final class FMLClientSetupEventHandler {
    */
   @SubscribeEvent
   public static void registerRenderers(EntityRenderersEvent.RegisterRenderers event) {
-    event.registerBlockEntityRenderer(FireManager.CUSTOM_CAMPFIRE_ENTITY_TYPE.get(), CampfireRenderer::new);
+    event.registerBlockEntityRenderer(FireManager.CUSTOM_CAMPFIRE_ENTITY_TYPE.get(), CustomCampfireRenderer::new);
+  }
+
+  /**
+   * Handles the {@link RegisterClientReloadListenersEvent} event.<br />
+   * Listeners registered here run after the vanilla ones, so the block atlas is already reloaded.
+   *
+   * @param event {@link RegisterClientReloadListenersEvent}.
+   */
+  @SubscribeEvent
+  public static void registerReloadListeners(RegisterClientReloadListenersEvent event) {
+    event.registerReloadListener(new FireSpriteReloadListener());
   }
 }
@@ -0,0 +1,25 @@
+package it.crystalnest.soul_fire_d.handler;
+
+import it.crystalnest.soul_fire_d.Constants;
+import it.crystalnest.soul_fire_d.command.FireCommand;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+
+/**
+ * Handles the command registration events.
+ */
+@EventBusSubscriber(modid = Constants.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public final class RegisterCommandsEventHandler {
+  private RegisterCommandsEventHandler() {}
+
+  /**
+   * Handles the {@link RegisterCommandsEvent} event.
+   *
+   * @param event {@link RegisterCommandsEvent}.
+   */
+  @SubscribeEvent
+  public static void handle(RegisterCommandsEvent event) {
+    FireCommand.register(event.getDispatcher());
+  }
+}